@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 fun getGitHash(): String {
@@ -61,11 +62,20 @@ dependencies {
     implementation ("com.fasterxml.jackson.core:jackson-databind")
     implementation ("org.springframework.boot:spring-boot-starter-data-redis")
     implementation ("org.springframework.boot:spring-boot-starter-cache")
+    implementation ("com.github.ben-manes.caffeine:caffeine")
     implementation ("com.fasterxml.jackson.core:jackson-databind")
     implementation ("org.springframework.boot:spring-boot-starter")
 
 }
 
+// 벤치마크: ./gradlew jmh (src/jmh/java)
+jmh {
+	profilers.add("gc")  // 연산당 할당량(gc.alloc.rate.norm) 측정
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.common.lock;
+
+import kr.hhplus.be.server.order.domain.dto.request.OrderItemRequest;
+import kr.hhplus.be.server.order.domain.dto.request.OrderRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 락 키 해석 비용 비교 (기존 방식 vs LockKeyResolver)
+ * ./gradlew jmh 실행 후 gc.alloc.rate.norm (연산당 할당 바이트) 항목으로 할당량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockKeyResolverBenchmark {
+    private static final String[] MULTI_PARAMETER_NAMES = {"request"};
+    private static final String[] SINGLE_PARAMETER_NAMES = {"userId"};
+
+    private final ExpressionParser legacyParser = new SpelExpressionParser();
+    private final LockKeyResolver resolver = new LockKeyResolver();
+
+    private Method multiMethod;
+    private Method singleMethod;
+    private Object[] multiArgs;
+    private Object[] singleArgs;
+
+    public static class Target {
+        @DistributedLock(key = "multi:#request.getProductIds()")
+        public void order(OrderRequest request) {
+        }
+
+        @DistributedLock(key = "USER:#userId")
+        public void charge(Long userId) {
+        }
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        multiMethod = Target.class.getMethod("order", OrderRequest.class);
+        singleMethod = Target.class.getMethod("charge", Long.class);
+
+        // 10개 상품 장바구니
+        List<OrderItemRequest> items = LongStream.rangeClosed(1, 10)
+                .mapToObj(productId -> {
+                    OrderItemRequest item = new OrderItemRequest();
+                    item.setProductId(11 - productId);
+                    item.setQuantity(1);
+                    return item;
+                })
+                .toList();
+        OrderRequest request = new OrderRequest();
+        request.setOrderItems(items);
+        multiArgs = new Object[]{request};
+        singleArgs = new Object[]{42L};
+    }
+
+    @Benchmark
+    public List<String> multiLegacy() {
+        DistributedLock distributedLock = multiMethod.getAnnotation(DistributedLock.class);
+        String expressionString = distributedLock.key().substring(LockKeyResolver.MULTI_LOCK_PREFIX.length());
+
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < MULTI_PARAMETER_NAMES.length; i++) {
+            context.setVariable(MULTI_PARAMETER_NAMES[i], multiArgs[i]);
+        }
+        Object result = legacyParser.parseExpression(expressionString).getValue(context);
+
+        List<Long> productIds = new ArrayList<>();
+        for (Object item : (Collection<?>) result) {
+            productIds.add(((Number) item).longValue());
+        }
+        return productIds.stream()
+                .distinct()
+                .sorted()
+                .map(id -> LockKeyResolver.PRODUCT_LOCK_PREFIX + id)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> multiResolver() {
+        LockKeyResolver.LockMetadata metadata = resolver.metadata(multiMethod, MULTI_PARAMETER_NAMES);
+        return resolver.resolveProductKeys(metadata, multiArgs);
+    }
+
+    @Benchmark
+    public String singleLegacy() {
+        DistributedLock distributedLock = singleMethod.getAnnotation(DistributedLock.class);
+        String resultKey = distributedLock.key();
+        for (int i = 0; i < SINGLE_PARAMETER_NAMES.length; i++) {
+            String paramName = "#" + SINGLE_PARAMETER_NAMES[i];
+            if (resultKey.contains(paramName)) {
+                resultKey = resultKey.replace(paramName, singleArgs[i] != null ? singleArgs[i].toString() : "null");
+            }
+        }
+        return LockKeyResolver.REDISSON_LOCK_PREFIX + resultKey;
+    }
+
+    @Benchmark
+    public String singleResolver() {
+        LockKeyResolver.LockMetadata metadata = resolver.metadata(singleMethod, SINGLE_PARAMETER_NAMES);
+        return resolver.resolveKey(metadata, singleArgs);
+    }
+}
@@ -27,11 +27,9 @@ public class RedisCacheConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .disableCachingNullValues();  // null 값은 캐싱하지 않음
 
-        // 특정 캐시에 대한 설정 커스터마이징
+        // topProducts 캐시는 RefreshAheadCache 로 관리
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
-                .withCacheConfiguration("topProducts",  // topProducts 캐시에 대한 특별 설정
-                        cacheConfig.entryTtl(Duration.ofMinutes(30)))  // topProducts는 30분 만료
                 .build();
     }
 }
\ No newline at end of file
@@ -1,20 +1,27 @@
 package kr.hhplus.be.server.common.cache;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import kr.hhplus.be.server.product.application.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class RedisCacheRefresher {
-    private final Logger log = LoggerFactory.getLogger(RedisCacheRefresher.class);
+    private final ProductService productService;
 
-    @CacheEvict(value = "topProducts", allEntries = true)
-    @Scheduled(cron = "0 0 */1 * * *")  // 매 시간마다 실행 (초 분 시 일 월 요일)
+    // 캐시를 비우지 않고 만료(30분) 전에 새 값으로 교체 - 만료 직후 요청이 DB로 몰리지 않도록 함
+    @Scheduled(fixedDelayString = "${cache.refresh-ahead.top-products-interval-ms:1200000}")
     public void refreshTopProductsCache() {
-        log.info("Redis 캐시 갱신: topProducts 캐시가 비워졌습니다. - {}", LocalDateTime.now());
+        try {
+            productService.refreshTopSellingProductsCache();
+            log.info("Redis 캐시 갱신: topProducts 캐시가 갱신되었습니다. - {}", LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Redis 캐시 갱신 실패: topProducts", e);
+        }
     }
 }
@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 만료 전 갱신(refresh-ahead) Redis 캐시
+ * - 값은 논리 만료 시간(ttl)의 두 배 동안 보관하고, 논리 만료가 지나면 백그라운드에서 다시 계산해 교체한다.
+ * - 만료가 가까워질수록 높은 확률로 미리 갱신한다 (계산 시간이 길수록 더 일찍 갱신).
+ * - 갱신/최초 적재는 Redisson 락으로 한 요청만 수행하고, 나머지 요청은 기존 값 또는 적재된 값을 사용한다.
+ * 캐시 값은 Redis JSON 직렬화가 가능한 타입이어야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshAheadCache {
+    private static final String KEY_PREFIX = "CACHE:";
+    private static final String LOCK_PREFIX = "LOCK:CACHE:";
+    private static final long LOAD_WAIT_SECONDS = 3;
+    private static final long LOAD_LEASE_SECONDS = 30;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-ahead-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 서버에서 갱신 작업이 대기/실행 중인 캐시 이름
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Value("${cache.refresh-ahead.beta:1.0}")
+    private double beta;
+
+    // 캐시 값 + 논리 만료 시각 + 계산 소요 시간
+    public record Entry(Object value, long expiresAt, long computeMillis) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, Duration ttl, Supplier<T> loader) {
+        Entry entry = read(name);
+        if (entry != null) {
+            if (shouldRefresh(entry)) {
+                refreshAsync(name, ttl, loader);
+            }
+            return (T) entry.value();
+        }
+        return (T) loadOnMiss(name, ttl, loader).value();
+    }
+
+    // 만료와 무관하게 다시 계산해 교체 (스케줄러에서 만료 전에 호출)
+    public void refresh(String name, Duration ttl, Supplier<?> loader) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + name);
+        if (!lock.tryLock()) {
+            return; // 다른 서버/스레드가 이미 갱신 중
+        }
+        try {
+            compute(name, ttl, loader);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // XFetch: now - computeMillis * beta * ln(random) >= expiresAt 이면 갱신
+    private boolean shouldRefresh(Entry entry) {
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        double gap = -entry.computeMillis() * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= entry.expiresAt();
+    }
+
+    private void refreshAsync(String name, Duration ttl, Supplier<?> loader) {
+        if (!refreshing.add(name)) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + name);
+        // 락 소유 스레드가 해제해야 하므로 백그라운드 스레드에서 락 획득부터 수행
+        refreshExecutor.execute(() -> {
+            try {
+                if (!lock.tryLock()) {
+                    return;
+                }
+                try {
+                    Entry current = read(name);
+                    if (current == null || shouldRefresh(current)) {
+                        compute(name, ttl, loader);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } catch (Exception e) {
+                log.error("캐시 백그라운드 갱신 실패 - name: {}", name, e);
+            } finally {
+                refreshing.remove(name);
+            }
+        });
+    }
+
+    private Entry loadOnMiss(String name, Duration ttl, Supplier<?> loader) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + name);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(LOAD_WAIT_SECONDS, LOAD_LEASE_SECONDS, TimeUnit.SECONDS);
+            // 락을 기다리는 동안 다른 요청이 적재했으면 그 값을 사용
+            Entry entry = read(name);
+            if (entry != null) {
+                return entry;
+            }
+            return compute(name, ttl, loader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return compute(name, ttl, loader);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Entry compute(String name, Duration ttl, Supplier<?> loader) {
+        long start = System.currentTimeMillis();
+        Object value = loader.get();
+        long end = System.currentTimeMillis();
+
+        Entry entry = new Entry(value, end + ttl.toMillis(), end - start);
+        // 논리 만료 후에도 갱신되는 동안 기존 값을 제공하도록 두 배 기간 보관
+        redisTemplate.opsForValue().set(KEY_PREFIX + name, entry, ttl.multipliedBy(2));
+        return entry;
+    }
+
+    private Entry read(String name) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + name);
+            return cached instanceof Entry entry ? entry : null;
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패 - name: {}", name, e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
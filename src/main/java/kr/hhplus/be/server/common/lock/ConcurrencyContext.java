@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.common.lock;
+
+/**
+ * 현재 호출에 적용된 동시성 제어 전략
+ * DistributedLockAspect 가 메소드 실행 동안 설정하며, 메소드는 이 값으로 조회/차감 방식을 고른다.
+ * 전략 변경 중에도 한 호출 안에서는 Aspect 와 메소드가 같은 전략을 보게 된다.
+ */
+public final class ConcurrencyContext {
+    private static final ThreadLocal<ConcurrencyStrategy> CURRENT = new ThreadLocal<>();
+
+    private ConcurrencyContext() {
+    }
+
+    // Aspect 밖에서 호출된 경우 null
+    public static ConcurrencyStrategy current() {
+        return CURRENT.get();
+    }
+
+    public static boolean is(ConcurrencyStrategy strategy) {
+        return CURRENT.get() == strategy;
+    }
+
+    static ConcurrencyStrategy enter(ConcurrencyStrategy strategy) {
+        ConcurrencyStrategy previous = CURRENT.get();
+        CURRENT.set(strategy);
+        return previous;
+    }
+
+    static void exit(ConcurrencyStrategy previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
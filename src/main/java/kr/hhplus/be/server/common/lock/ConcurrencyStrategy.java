@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.common.lock;
+
+/**
+ * 동시성 제어 전략
+ * REDIS, LOCAL, OPTIMISTIC_RETRY 는 DistributedLockAspect 가 처리하고,
+ * DB_PESSIMISTIC, ATOMIC_SQL 은 락 없이 진입한 메소드가 ConcurrencyContext 를 보고 DB 에서 처리한다.
+ */
+public enum ConcurrencyStrategy {
+    REDIS,            // 서버 로컬 락 + Redis 분산 락
+    LOCAL,            // 서버 로컬 락만 사용 (단일 서버 배포)
+    DB_PESSIMISTIC,   // 비관적 락(SELECT ... FOR UPDATE)
+    OPTIMISTIC_RETRY, // 버전 충돌 시 트랜잭션 재시도
+    ATOMIC_SQL        // 조건부 UPDATE 한 문장
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 동시성 전략 조회/변경 actuator 엔드포인트
+ * 인증 없이 전략을 바꿀 수 있으므로 웹에는 노출하지 않고 JMX(org.springframework.boot:type=Endpoint,name=Concurrency)로만 노출한다.
+ * strategies()             - 도메인별 현재 전략
+ * change(domain, strategy) - 전략 변경
+ * reset(domain)            - 설정값으로 초기화
+ * 도메인은 해당 도메인 메소드가 한 번 이상 호출된 뒤 목록에 나타난다.
+ */
+@Component
+@Endpoint(id = "concurrency")
+@RequiredArgsConstructor
+public class ConcurrencyStrategyEndpoint {
+    private final ConcurrencyStrategyRegistry registry;
+
+    @ReadOperation
+    public Map<String, ConcurrencyStrategy> strategies() {
+        return registry.strategies();
+    }
+
+    @WriteOperation
+    public Map<String, ConcurrencyStrategy> change(@Selector String domain, ConcurrencyStrategy strategy) {
+        registry.change(domain, strategy);
+        return registry.strategies();
+    }
+
+    @DeleteOperation
+    public Map<String, ConcurrencyStrategy> reset(@Selector String domain) {
+        registry.reset(domain);
+        return registry.strategies();
+    }
+}
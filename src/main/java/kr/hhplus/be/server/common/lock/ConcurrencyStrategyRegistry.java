@@ -0,0 +1,107 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도메인별 동시성 제어 전략 저장소
+ * 전략은 concurrency.strategy.{도메인} 설정값, 없으면 어노테이션 기본값을 사용하고
+ * 운영 중에는 actuator(concurrency) 엔드포인트로 재배포 없이 변경한다.
+ * 도메인과 지원 전략은 빈 생성 시 @DistributedLock 메서드에서 등록하며, 등록되지 않은 도메인은 변경할 수 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyStrategyRegistry implements BeanPostProcessor {
+    private static final String PROPERTY_PREFIX = "concurrency.strategy.";
+
+    private final Environment environment;
+
+    private final Map<String, ConcurrencyStrategy> strategies = new ConcurrentHashMap<>();
+    private final Map<String, Set<ConcurrencyStrategy>> supported = new ConcurrentHashMap<>();
+
+    // 어노테이션에 적용할 전략 - 도메인이 지원하지 않는 전략이면 어노테이션 기본값 사용
+    public ConcurrencyStrategy resolve(DistributedLock distributedLock) {
+        String domain = distributedLock.domain();
+        if (domain.isEmpty()) {
+            return distributedLock.strategy();
+        }
+
+        Set<ConcurrencyStrategy> supports = supported.get(domain);
+        if (supports == null) {
+            supports = register(distributedLock);
+        }
+        ConcurrencyStrategy strategy = strategies.get(domain);
+        if (strategy == null) {
+            strategy = strategies.computeIfAbsent(domain, d ->
+                    environment.getProperty(PROPERTY_PREFIX + d, ConcurrencyStrategy.class, distributedLock.strategy()));
+        }
+        if (!supports.contains(strategy)) {
+            log.warn("지원하지 않는 동시성 전략 - domain: {}, strategy: {}, 기본 전략 {} 사용", domain, strategy, distributedLock.strategy());
+            return distributedLock.strategy();
+        }
+        return strategy;
+    }
+
+    public Map<String, ConcurrencyStrategy> strategies() {
+        return new TreeMap<>(strategies);
+    }
+
+    public Set<ConcurrencyStrategy> supportedStrategies(String domain) {
+        Set<ConcurrencyStrategy> supports = supported.get(domain);
+        if (supports == null) {
+            throw new IllegalArgumentException("등록되지 않은 도메인입니다: " + domain);
+        }
+        return EnumSet.copyOf(supports);
+    }
+
+    // 운영 중 전략 변경 - 등록된 도메인이 지원하는 전략으로만 변경
+    public void change(String domain, ConcurrencyStrategy strategy) {
+        if (!supportedStrategies(domain).contains(strategy)) {
+            throw new IllegalArgumentException(domain + " 도메인은 " + strategy + " 전략을 지원하지 않습니다.");
+        }
+        strategies.put(domain, strategy);
+        log.info("동시성 전략 변경 - domain: {}, strategy: {}", domain, strategy);
+    }
+
+    // 변경한 전략을 설정값으로 되돌림 (다음 호출 시 다시 읽음)
+    public void reset(String domain) {
+        strategies.remove(domain);
+        log.info("동시성 전략 초기화 - domain: {}", domain);
+    }
+
+    // 빈의 @DistributedLock 메서드 도메인 등록 - 첫 호출 전에도 운영 중 변경할 수 있도록 한다
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        ReflectionUtils.doWithMethods(AopUtils.getTargetClass(bean), method -> {
+            DistributedLock distributedLock = AnnotatedElementUtils.findMergedAnnotation(method, DistributedLock.class);
+            if (distributedLock != null && !distributedLock.domain().isEmpty()) {
+                register(distributedLock);
+            }
+        });
+        return bean;
+    }
+
+    private Set<ConcurrencyStrategy> register(DistributedLock distributedLock) {
+        return supported.computeIfAbsent(distributedLock.domain(), d -> supportsOf(distributedLock));
+    }
+
+    private Set<ConcurrencyStrategy> supportsOf(DistributedLock distributedLock) {
+        return distributedLock.supports().length == 0
+                ? EnumSet.allOf(ConcurrencyStrategy.class)
+                : EnumSet.copyOf(Arrays.asList(distributedLock.supports()));
+    }
+}
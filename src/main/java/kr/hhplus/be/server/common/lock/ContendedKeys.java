@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경합이 심한 락 키 상위 K개 추적 (Space-Saving 알고리즘)
+ * 최대 capacity 개의 키만 보관하고, 가득 차면 가장 적게 경합한 키를 새 키로 교체하면서 그 횟수를 이어받는다.
+ * 이어받은 횟수(error)만큼 과대 추정될 수 있지만 실제로 자주 경합하는 키는 항상 목록에 남는다.
+ */
+public class ContendedKeys {
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    ContendedKeys(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void record(String key, long waitNanos, boolean timeout) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.size() < capacity ? new Counter(0) : evictMin();
+            counters.put(key, counter);
+        }
+        counter.count++;
+        counter.totalWaitNanos += waitNanos;
+        if (timeout) {
+            counter.timeouts++;
+        }
+    }
+
+    synchronized List<ContendedKey> top(int limit) {
+        List<ContendedKey> result = new ArrayList<>(counters.size());
+        counters.forEach((key, counter) -> result.add(new ContendedKey(key, counter.count, counter.error,
+                counter.timeouts, counter.totalWaitNanos / 1_000_000)));
+        result.sort(Comparator.comparingLong(ContendedKey::contendedCount).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    synchronized void clear() {
+        counters.clear();
+    }
+
+    private Counter evictMin() {
+        Map.Entry<String, Counter> min = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count < min.getValue().count) {
+                min = entry;
+            }
+        }
+        counters.remove(min.getKey());
+        return new Counter(min.getValue().count);
+    }
+
+    /**
+     * 경합 키 통계
+     * contendedCount: 대기가 발생한 획득 횟수 (error 만큼 과대 추정 가능)
+     */
+    public record ContendedKey(String key, long contendedCount, long error, long timeouts, long totalWaitMillis) {
+    }
+
+    private static class Counter {
+        private long count;
+        private final long error;
+        private long timeouts;
+        private long totalWaitNanos;
+
+        private Counter(long error) {
+            this.count = error;
+            this.error = error;
+        }
+    }
+}
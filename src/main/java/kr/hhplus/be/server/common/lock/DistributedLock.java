@@ -30,4 +30,22 @@ public @interface DistributedLock {
      * 락을 획득한 이후 leaseTime 이 지나면 락을 해제한다
      */
     long leaseTime() default 3L;
+
+    /**
+     * 동시성 전략 도메인 (default - 없음)
+     * 지정하면 concurrency.strategy.{domain} 설정 또는 actuator 로 변경한 전략을 사용한다
+     */
+    String domain() default "";
+
+    /**
+     * 기본 동시성 전략 (default - REDIS)
+     * 도메인이 없거나 도메인 설정이 없을 때 사용한다
+     */
+    ConcurrencyStrategy strategy() default ConcurrencyStrategy.REDIS;
+
+    /**
+     * 도메인이 지원하는 전략 목록 (default - 전체)
+     * DB_PESSIMISTIC, ATOMIC_SQL 은 메소드가 직접 구현해야 하므로 구현한 전략만 나열한다
+     */
+    ConcurrencyStrategy[] supports() default {};
 }
@@ -8,17 +8,16 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @DistributedLock 선언 시 수행되는 Aop class
@@ -29,47 +28,71 @@ import java.util.List;
 @Slf4j
 @Order(1) // 트랜잭션(@Order(2))보다 먼저 실행되도록 설정
 public class DistributedLockAspect {
-    private static final String REDISSON_LOCK_PREFIX = "LOCK:";
-    private static final String MULTI_LOCK_PREFIX = "multi:";
-    private static final String PRODUCT_LOCK_PREFIX = "PRODUCT:";
-
     private final RedissonClient redissonClient;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final RedisMultiLock multiLock;
+    private final LocalLockStripes localLocks;
+    private final LockKeyResolver lockKeyResolver;
+    private final ConcurrencyStrategyRegistry strategyRegistry;
+    private final LockMetrics lockMetrics;
+
+    @Value("${concurrency.optimistic.max-retries:5}")
+    private int optimisticMaxRetries;
+
+    @Value("${concurrency.optimistic.backoff-ms:20}")
+    private long optimisticBackoffMs;
 
     @Around("@annotation(kr.hhplus.be.server.common.lock.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        // 메소드별 어노테이션/키 템플릿/SpEL 은 최초 호출 시 한 번만 해석
+        LockKeyResolver.LockMetadata metadata = lockKeyResolver.metadata((MethodSignature) joinPoint.getSignature());
+        ConcurrencyStrategy strategy = strategyRegistry.resolve(metadata.distributedLock());
 
-        String key = distributedLock.key();
-
-        // 다중 락 처리
-        if (key.startsWith(MULTI_LOCK_PREFIX)) {
-            return handleMultiLock(joinPoint, signature, distributedLock);
+        ConcurrencyStrategy previous = ConcurrencyContext.enter(strategy);
+        try {
+            return switch (strategy) {
+                // 다중 락 / 단일 락 처리
+                case REDIS -> metadata.isMulti() ? handleMultiLock(joinPoint, metadata) : handleSingleLock(joinPoint, metadata);
+                case LOCAL -> handleLocalLock(joinPoint, metadata);
+                case OPTIMISTIC_RETRY -> proceedWithOptimisticRetry(joinPoint);
+                // 메소드가 ConcurrencyContext 를 보고 DB 락/조건부 UPDATE 로 처리
+                case DB_PESSIMISTIC, ATOMIC_SQL -> joinPoint.proceed();
+            };
+        } finally {
+            ConcurrencyContext.exit(previous);
         }
-
-        // 단일 락 처리
-        return handleSingleLock(joinPoint, signature, distributedLock);
     }
 
     /**
      * 단일 락 처리 메소드
      */
-    private Object handleSingleLock(ProceedingJoinPoint joinPoint, MethodSignature signature, DistributedLock distributedLock) throws Throwable {
-        String key = REDISSON_LOCK_PREFIX + getKey(distributedLock.key(), signature.getParameterNames(), joinPoint.getArgs());
+    private Object handleSingleLock(ProceedingJoinPoint joinPoint, LockKeyResolver.LockMetadata metadata) throws Throwable {
+        DistributedLock distributedLock = metadata.distributedLock();
+        String key = lockKeyResolver.resolveKey(metadata, joinPoint.getArgs());
         RLock rLock = redissonClient.getLock(key);
+        TimeUnit unit = distributedLock.timeUnit();
+        long deadline = System.currentTimeMillis() + unit.toMillis(distributedLock.waitTime());
+        List<String> lockKeys = List.of(key);
+        List<ReentrantLock> heldLocalLocks = null;
+        boolean acquired = false;
+        long waitStart = System.nanoTime();
+        long holdStart = 0;
 
         log.info("# AOP 단일 락 시작: {}", key);
 
         try {
-            boolean acquired = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
+            // 서버 로컬 락을 먼저 얻은 스레드만 Redis 락 시도
+            heldLocalLocks = localLocks.isEnabled() ? localLocks.tryLock(lockKeys, distributedLock.waitTime(), unit) : List.of();
+            acquired = heldLocalLocks != null
+                    && rLock.tryLock(remainingMillis(deadline), unit.toMillis(distributedLock.leaseTime()), TimeUnit.MILLISECONDS);
 
             if (!acquired) {
+                lockMetrics.recordTimeout(lockKeys, System.nanoTime() - waitStart);
                 log.warn("락 획득 실패: {}", key);
                 throw new RuntimeException("이미 진행 중인 작업입니다.");
             }
 
+            holdStart = System.nanoTime();
+            lockMetrics.recordAcquired(lockKeys, holdStart - waitStart);
             log.debug("락 획득 성공: {}", key);
 
             // 트랜잭션 시작
@@ -85,6 +108,12 @@ public class DistributedLockAspect {
                 rLock.unlock();
                 log.debug("락 해제: {}", key);
             }
+            if (heldLocalLocks != null) {
+                localLocks.unlock(heldLocalLocks);
+            }
+            if (acquired) {
+                lockMetrics.recordHold(lockKeys, System.nanoTime() - holdStart);
+            }
             log.info("# AOP 단일 락 종료: {}", key);
         }
     }
@@ -92,69 +121,36 @@ public class DistributedLockAspect {
     /**
      * 다중 락 처리 메소드
      */
-    private Object handleMultiLock(ProceedingJoinPoint joinPoint, MethodSignature signature, DistributedLock distributedLock) throws Throwable {
-        // multi: 접두사 제거
-        String expressionString = distributedLock.key().substring(MULTI_LOCK_PREFIX.length());
+    private Object handleMultiLock(ProceedingJoinPoint joinPoint, LockKeyResolver.LockMetadata metadata) throws Throwable {
+        DistributedLock distributedLock = metadata.distributedLock();
 
-        // SpEL 표현식 평가를 위한 컨텍스트 설정
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        String[] paramNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
-        }
+        // 중복 제거 + 정렬된 순서로 한 번에 잠가 교차 순서 대기를 방지
+        List<String> lockKeys = lockKeyResolver.resolveProductKeys(metadata, joinPoint.getArgs());
+        TimeUnit unit = distributedLock.timeUnit();
+        long deadline = System.currentTimeMillis() + unit.toMillis(distributedLock.waitTime());
+        List<ReentrantLock> heldLocalLocks = null;
+        boolean acquired = false;
+        long waitStart = System.nanoTime();
+        long holdStart = 0;
 
-        // 표현식 평가
-        Expression expression = parser.parseExpression(expressionString);
-        Object result = expression.getValue(context);
-
-        List<Long> productIds = new ArrayList<>();
-
-        // 결과가 컬렉션인 경우 (여러 상품 ID)
-        if (result instanceof Collection<?>) {
-            Collection<?> collection = (Collection<?>) result;
-            for (Object item : collection) {
-                if (item instanceof Long) {
-                    productIds.add((Long) item);
-                } else if (item instanceof Number) {
-                    productIds.add(((Number) item).longValue());
-                }
-            }
-        }
-        // 단일 값인 경우
-        else if (result instanceof Long) {
-            productIds.add((Long) result);
-        }
-
-        log.info("# AOP 다중 락 시작, 상품 수: {}", productIds.size());
-
-        // 모든 락을 저장할 리스트
-        List<RLock> locks = new ArrayList<>();
+        log.info("# AOP 다중 락 시작, 상품 수: {}", lockKeys.size());
 
         try {
-            // 모든 상품에 대해 락 획득 시도
-            for (Long productId : productIds) {
-                String lockKey = REDISSON_LOCK_PREFIX + PRODUCT_LOCK_PREFIX + productId;
-                RLock lock = redissonClient.getLock(lockKey);
-
-                boolean acquired = lock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
-
-                if (!acquired) {
-                    log.warn("상품 락 획득 실패: {}", lockKey);
-                    // 이미 획득한 락들 모두 해제
-                    for (RLock acquiredLock : locks) {
-                        if (acquiredLock.isHeldByCurrentThread()) {
-                            acquiredLock.unlock();
-                        }
-                    }
-                    throw new RuntimeException("상품 " + productId + "에 대한 작업이 이미 진행 중입니다.");
-                }
+            // 서버 로컬 락을 먼저 얻은 스레드만 Redis 락 시도
+            heldLocalLocks = localLocks.isEnabled() ? localLocks.tryLock(lockKeys, distributedLock.waitTime(), unit) : List.of();
+            acquired = heldLocalLocks != null
+                    && multiLock.tryLock(lockKeys, remainingMillis(deadline), unit.toMillis(distributedLock.leaseTime()), TimeUnit.MILLISECONDS);
 
-                locks.add(lock);
-                log.debug("상품 락 획득 성공: {}", lockKey);
+            if (!acquired) {
+                lockMetrics.recordTimeout(lockKeys, System.nanoTime() - waitStart);
+                log.warn("상품 락 획득 실패: {}", lockKeys);
+                throw new RuntimeException("상품 " + lockKeys + "에 대한 작업이 이미 진행 중입니다.");
             }
 
+            holdStart = System.nanoTime();
+            lockMetrics.recordAcquired(lockKeys, holdStart - waitStart);
+            log.debug("상품 락 획득 성공: {}", lockKeys);
+
             // 모든 락 획득 성공, 트랜잭션 시작
             return joinPoint.proceed();
 
@@ -163,33 +159,79 @@ public class DistributedLockAspect {
             log.error("다중 락 획득 중 인터럽트 발생", e);
             throw new RuntimeException("락 획득 중 인터럽트가 발생했습니다.");
         } finally {
-            // 모든 락 해제
-            for (RLock lock : locks) {
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
-                    log.debug("락 해제: {}", lock.getName());
-                }
+            // 모든 락 일괄 해제
+            long released = acquired
+                    ? multiLock.unlock(lockKeys, distributedLock.leaseTime(), distributedLock.timeUnit())
+                    : 0;
+            if (heldLocalLocks != null) {
+                localLocks.unlock(heldLocalLocks);
+            }
+            if (acquired) {
+                lockMetrics.recordHold(lockKeys, System.nanoTime() - holdStart);
             }
-            log.info("# AOP 다중 락 종료, 해제된 락 수: {}", locks.size());
+            log.info("# AOP 다중 락 종료, 해제된 락 수: {}", released);
         }
     }
 
     /**
-     * 키 생성 메소드 (기존 메소드)
+     * 서버 로컬 락만 사용하는 처리 메소드 (LOCAL 전략)
      */
-    private String getKey(String keyPattern, String[] parameterNames, Object[] args) {
-        if (!keyPattern.contains("#")) {
-            return keyPattern;
+    private Object handleLocalLock(ProceedingJoinPoint joinPoint, LockKeyResolver.LockMetadata metadata) throws Throwable {
+        DistributedLock distributedLock = metadata.distributedLock();
+        List<String> lockKeys = metadata.isMulti()
+                ? lockKeyResolver.resolveProductKeys(metadata, joinPoint.getArgs())
+                : List.of(lockKeyResolver.resolveKey(metadata, joinPoint.getArgs()));
+
+        List<ReentrantLock> heldLocalLocks;
+        long waitStart = System.nanoTime();
+        try {
+            heldLocalLocks = localLocks.tryLock(lockKeys, distributedLock.waitTime(), distributedLock.timeUnit());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("로컬 락 획득 중 인터럽트 발생 : {}", lockKeys, e);
+            throw new RuntimeException("락 획득 중 인터럽트가 발생했습니다.");
+        }
+        if (heldLocalLocks == null) {
+            lockMetrics.recordTimeout(lockKeys, System.nanoTime() - waitStart);
+            log.warn("로컬 락 획득 실패: {}", lockKeys);
+            throw new RuntimeException("이미 진행 중인 작업입니다.");
         }
 
-        String resultKey = keyPattern;
-        for (int i = 0; i < parameterNames.length; i++) {
-            String paramName = "#" + parameterNames[i];
-            if (resultKey.contains(paramName)) {
-                resultKey = resultKey.replace(paramName, args[i] != null ? args[i].toString() : "null");
+        long holdStart = System.nanoTime();
+        lockMetrics.recordAcquired(lockKeys, holdStart - waitStart);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            localLocks.unlock(heldLocalLocks);
+            lockMetrics.recordHold(lockKeys, System.nanoTime() - holdStart);
+        }
+    }
+
+    /**
+     * 버전 충돌 시 재시도하는 처리 메소드 (OPTIMISTIC_RETRY 전략)
+     * 메소드가 트랜잭션 경계일 때만 재시도한다 - 바깥 트랜잭션에 참여 중이면 충돌이 바깥 커밋 시점에 드러나므로 한 번만 실행
+     */
+    private Object proceedWithOptimisticRetry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= optimisticMaxRetries) {
+                    log.warn("버전 충돌 재시도 초과 - 시도 횟수: {}", attempt);
+                    throw e;
+                }
+                // 충돌한 요청끼리 같은 시점에 재시도하지 않도록 지터 적용
+                long backoff = optimisticBackoffMs * attempt;
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
             }
         }
+    }
 
-        return resultKey;
+    private long remainingMillis(long deadline) {
+        return Math.max(0, deadline - System.currentTimeMillis());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분산 락 앞단의 서버 로컬 락 (고정 개수의 공정 락을 락 이름 해시로 나눠 사용)
+ * 같은 서버의 여러 스레드가 같은 락을 기다릴 때 로컬 락을 얻은 스레드만 Redis 락을 시도하므로
+ * 서버당 락 키 하나에 Redis 대기자는 최대 하나가 된다.
+ * 여러 키를 잠글 때는 스트라이프 번호 순으로 잠가 서버 내 교착을 방지한다.
+ */
+@Component
+public class LocalLockStripes {
+    private final ReentrantLock[] stripes;
+    private final boolean enabled;
+
+    public LocalLockStripes(@Value("${lock.local.enabled:true}") boolean enabled,
+                            @Value("${lock.local.stripes:1024}") int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("로컬 락 스트라이프 수는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    /**
+     * 키에 해당하는 로컬 락을 모두 잠금 - timeout 안에 잠그지 못하면 이미 잠근 락을 풀고 null 반환
+     * 반환된 락은 Redis 락 해제 후 unlock 으로 해제해야 한다
+     */
+    public List<ReentrantLock> tryLock(Collection<String> keys, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<ReentrantLock> acquired = new ArrayList<>();
+        try {
+            for (int index : stripeIndexes(keys)) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    unlock(acquired);
+                    return null;
+                }
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            unlock(acquired);
+            throw e;
+        }
+        return acquired;
+    }
+
+    // 분산 락 앞단에서 로컬 락을 사용할지 여부 (LOCAL 전략은 설정과 무관하게 사용)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 잠근 역순으로 해제
+    public void unlock(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    private int[] stripeIndexes(Collection<String> keys) {
+        int[] indexes = new int[keys.size()];
+        int count = 0;
+        for (String key : keys) {
+            indexes[count++] = Math.floorMod(key.hashCode(), stripes.length);
+        }
+        if (indexes.length < 2) {
+            return indexes;
+        }
+        Arrays.sort(indexes);
+        int distinct = 1;
+        for (int i = 1; i < indexes.length; i++) {
+            if (indexes[i] != indexes[distinct - 1]) {
+                indexes[distinct++] = indexes[i];
+            }
+        }
+        return distinct == indexes.length ? indexes : Arrays.copyOf(indexes, distinct);
+    }
+}
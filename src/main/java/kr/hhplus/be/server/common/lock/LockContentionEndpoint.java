@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합이 심한 락 키 조회 actuator 엔드포인트
+ * 인증 없는 초기화 연산이 있어 웹에는 노출하지 않고 JMX(org.springframework.boot:type=Endpoint,name=Locks)로만 노출한다.
+ * contendedKeys(limit) - 대기 횟수 기준 상위 키 (대기 시간/타임아웃 포함, 기본 20개)
+ * reset()              - 통계 초기화
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public List<ContendedKeys.ContendedKey> contendedKeys(@Nullable Integer limit) {
+        return lockMetrics.topContendedKeys(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        lockMetrics.resetContendedKeys();
+    }
+}
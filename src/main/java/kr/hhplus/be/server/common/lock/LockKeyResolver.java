@@ -0,0 +1,284 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @DistributedLock 락 키 해석기
+ * 메소드별로 어노테이션, 파라미터 위치, 키 템플릿, 컴파일된 SpEL 을 한 번만 만들어 두고
+ * 호출 시에는 인자만 대입해 락 키를 만든다.
+ * 상품 락 키는 상품 ID 별로 재사용해 주문마다 같은 문자열을 다시 만들지 않는다.
+ */
+@Component
+public class LockKeyResolver {
+    static final String REDISSON_LOCK_PREFIX = "LOCK:";
+    static final String MULTI_LOCK_PREFIX = "multi:";
+    static final String PRODUCT_LOCK_PREFIX = REDISSON_LOCK_PREFIX + "PRODUCT:";
+    private static final int PRODUCT_KEY_POOL_SIZE = 10_000;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, LockKeyResolver.class.getClassLoader()));
+    private final StandardEvaluationContext sharedContext = new StandardEvaluationContext();
+    private final Map<Method, LockMetadata> metadataCache = new ConcurrentHashMap<>();
+    private final Map<Long, String> productKeyPool = new ConcurrentHashMap<>();
+
+    public LockKeyResolver() {
+        // 공유 컨텍스트의 지연 초기화 목록을 미리 만들어 여러 스레드에서 읽기만 하도록 함
+        sharedContext.getPropertyAccessors();
+        sharedContext.getMethodResolvers();
+        sharedContext.getConstructorResolvers();
+        sharedContext.getIndexAccessors();
+        sharedContext.getTypeLocator();
+        sharedContext.getTypeConverter();
+    }
+
+    public LockMetadata metadata(MethodSignature signature) {
+        Method method = signature.getMethod();
+        LockMetadata metadata = metadataCache.get(method);
+        return metadata != null ? metadata : metadata(method, signature.getParameterNames());
+    }
+
+    public LockMetadata metadata(Method method, String[] parameterNames) {
+        LockMetadata metadata = metadataCache.get(method);
+        if (metadata == null) {
+            metadata = metadataCache.computeIfAbsent(method, m -> build(m, parameterNames));
+        }
+        return metadata;
+    }
+
+    // 단일 락 키
+    public String resolveKey(LockMetadata metadata, Object[] args) {
+        if (metadata.paramIndexes.length == 0) {
+            return metadata.keyParts[0];
+        }
+        StringBuilder key = new StringBuilder(metadata.estimatedLength);
+        for (int i = 0; i < metadata.paramIndexes.length; i++) {
+            key.append(metadata.keyParts[i]).append(args[metadata.paramIndexes[i]]);
+        }
+        return key.append(metadata.keyParts[metadata.paramIndexes.length]).toString();
+    }
+
+    // 다중 상품 락 키 - 중복 제거 후 상품 ID 순으로 정렬
+    public List<String> resolveProductKeys(LockMetadata metadata, Object[] args) {
+        Object result = metadata.expression.getValue(new ArgumentContext(sharedContext, metadata.parameterNames, args));
+
+        long[] productIds;
+        if (result instanceof Collection<?> collection) {
+            productIds = new long[collection.size()];
+            int count = 0;
+            for (Object item : collection) {
+                if (item instanceof Number number) {
+                    productIds[count++] = number.longValue();
+                }
+            }
+            productIds = count == productIds.length ? productIds : Arrays.copyOf(productIds, count);
+        } else if (result instanceof Number number) {
+            productIds = new long[]{number.longValue()};
+        } else {
+            return List.of();
+        }
+
+        Arrays.sort(productIds);
+        List<String> keys = new ArrayList<>(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            if (i == 0 || productIds[i] != productIds[i - 1]) {
+                keys.add(productKey(productIds[i]));
+            }
+        }
+        return keys;
+    }
+
+    private String productKey(long productId) {
+        String key = productKeyPool.get(productId);
+        if (key != null) {
+            return key;
+        }
+        key = PRODUCT_LOCK_PREFIX + productId;
+        if (productKeyPool.size() < PRODUCT_KEY_POOL_SIZE) {
+            productKeyPool.putIfAbsent(productId, key);
+        }
+        return key;
+    }
+
+    private LockMetadata build(Method method, String[] parameterNames) {
+        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        String key = distributedLock.key();
+
+        if (key.startsWith(MULTI_LOCK_PREFIX)) {
+            Expression expression = parser.parseExpression(key.substring(MULTI_LOCK_PREFIX.length()));
+            return new LockMetadata(distributedLock, true, expression, parameterNames, null, new int[0]);
+        }
+
+        // "#파라미터명" 토큰을 파라미터 위치로 치환한 템플릿 (긴 이름 우선 매칭)
+        String[] sortedNames = Arrays.stream(parameterNames)
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toArray(String[]::new);
+        List<String> keyParts = new ArrayList<>();
+        List<Integer> paramIndexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(REDISSON_LOCK_PREFIX);
+        int position = 0;
+        while (position < key.length()) {
+            String matched = key.charAt(position) == '#' ? matchParameter(key, position + 1, sortedNames) : null;
+            if (matched == null) {
+                literal.append(key.charAt(position++));
+                continue;
+            }
+            keyParts.add(literal.toString());
+            paramIndexes.add(Arrays.asList(parameterNames).indexOf(matched));
+            literal.setLength(0);
+            position += matched.length() + 1;
+        }
+        keyParts.add(literal.toString().intern());
+
+        return new LockMetadata(distributedLock, false, null, parameterNames,
+                keyParts.toArray(String[]::new), paramIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private String matchParameter(String key, int start, String[] sortedNames) {
+        for (String name : sortedNames) {
+            if (key.startsWith(name, start)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 메소드별 락 메타데이터
+     */
+    public static final class LockMetadata {
+        private final DistributedLock distributedLock;
+        private final boolean multi;
+        private final Expression expression;
+        private final String[] parameterNames;
+        private final String[] keyParts;
+        private final int[] paramIndexes;
+        private final int estimatedLength;
+
+        private LockMetadata(DistributedLock distributedLock, boolean multi, Expression expression,
+                             String[] parameterNames, String[] keyParts, int[] paramIndexes) {
+            this.distributedLock = distributedLock;
+            this.multi = multi;
+            this.expression = expression;
+            this.parameterNames = parameterNames;
+            this.keyParts = keyParts;
+            this.paramIndexes = paramIndexes;
+            this.estimatedLength = keyParts == null ? 0
+                    : Arrays.stream(keyParts).mapToInt(String::length).sum() + paramIndexes.length * 20;
+        }
+
+        public DistributedLock distributedLock() {
+            return distributedLock;
+        }
+
+        public boolean isMulti() {
+            return multi;
+        }
+    }
+
+    /**
+     * 메소드 인자를 SpEL 변수로 노출하는 컨텍스트 - 변수 맵을 만들지 않고 인자 배열을 그대로 조회
+     * 변수 외의 설정은 공유 컨텍스트에 위임
+     */
+    private static final class ArgumentContext implements EvaluationContext {
+        private final StandardEvaluationContext delegate;
+        private final String[] parameterNames;
+        private final Object[] args;
+
+        private ArgumentContext(StandardEvaluationContext delegate, String[] parameterNames, Object[] args) {
+            this.delegate = delegate;
+            this.parameterNames = parameterNames;
+            this.args = args;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(name)) {
+                    return args[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("락 키 표현식에서는 변수를 설정할 수 없습니다.");
+        }
+
+        @Override
+        public TypedValue getRootObject() {
+            return delegate.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return delegate.getPropertyAccessors();
+        }
+
+        @Override
+        public List<IndexAccessor> getIndexAccessors() {
+            return delegate.getIndexAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return delegate.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return delegate.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return delegate.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return delegate.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return delegate.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return delegate.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return delegate.getOperatorOverloader();
+        }
+    }
+}
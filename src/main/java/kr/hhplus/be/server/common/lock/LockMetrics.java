@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 경합 지표 (Micrometer)
+ * - lock.acquire      : 락 획득까지 대기 시간 (result=acquired|timeout)
+ * - lock.hold         : 락 보유 시간
+ * - lock.timeout      : 대기 시간 내 획득 실패 횟수
+ * - lock.multi.keys   : 다중 락 한 번에 잠근 키 수
+ * 모두 락 키 접두사(prefix, 예: LOCK:PRODUCT)로 태그하며,
+ * 대기가 임계값을 넘은 키는 상위 경합 키 목록(actuator locks)에 기록한다.
+ */
+@Component
+public class LockMetrics {
+    private final MeterRegistry meterRegistry;
+    private final ContendedKeys contendedKeys;
+    private final long contendedThresholdNanos;
+
+    // 접두사별 미터 캐시 - 호출마다 레지스트리 조회하지 않도록 함
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public LockMetrics(MeterRegistry meterRegistry,
+                       @Value("${lock.metrics.tracked-keys:200}") int trackedKeys,
+                       @Value("${lock.metrics.contended-threshold-ms:5}") long contendedThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.contendedKeys = new ContendedKeys(trackedKeys);
+        this.contendedThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contendedThresholdMs);
+    }
+
+    public void recordAcquired(List<String> keys, long waitNanos) {
+        Meters prefixMeters = metersOf(keys);
+        prefixMeters.acquired.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (keys.size() > 1) {
+            prefixMeters.multiKeys.record(keys.size());
+        }
+        if (waitNanos >= contendedThresholdNanos) {
+            recordContended(keys, waitNanos, false);
+        }
+    }
+
+    public void recordTimeout(List<String> keys, long waitNanos) {
+        Meters prefixMeters = metersOf(keys);
+        prefixMeters.timedOut.record(waitNanos, TimeUnit.NANOSECONDS);
+        prefixMeters.timeouts.increment();
+        recordContended(keys, waitNanos, true);
+    }
+
+    public void recordHold(List<String> keys, long holdNanos) {
+        metersOf(keys).hold.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public List<ContendedKeys.ContendedKey> topContendedKeys(int limit) {
+        return contendedKeys.top(limit);
+    }
+
+    public void resetContendedKeys() {
+        contendedKeys.clear();
+    }
+
+    // 다중 락은 어느 키에서 대기했는지 알 수 없으므로 함께 잠근 키 모두에 기록 - 자주 겹치는 키가 상위에 남음
+    private void recordContended(List<String> keys, long waitNanos, boolean timeout) {
+        for (String key : keys) {
+            contendedKeys.record(key, waitNanos, timeout);
+        }
+    }
+
+    private Meters metersOf(List<String> keys) {
+        String prefix = keys.isEmpty() ? "NONE" : prefixOf(keys.get(0));
+        Meters prefixMeters = meters.get(prefix);
+        if (prefixMeters == null) {
+            prefixMeters = meters.computeIfAbsent(prefix, p -> new Meters(meterRegistry, p));
+        }
+        return prefixMeters;
+    }
+
+    // LOCK:PRODUCT:12 -> LOCK:PRODUCT (마지막 구간 제외)
+    private String prefixOf(String key) {
+        int index = key.lastIndexOf(':');
+        return index > 0 ? key.substring(0, index) : key;
+    }
+
+    private static class Meters {
+        private final Timer acquired;
+        private final Timer timedOut;
+        private final Timer hold;
+        private final Counter timeouts;
+        private final DistributionSummary multiKeys;
+
+        private Meters(MeterRegistry registry, String prefix) {
+            this.acquired = Timer.builder("lock.acquire")
+                    .description("락 획득 대기 시간")
+                    .tags("prefix", prefix, "result", "acquired")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry);
+            this.timedOut = Timer.builder("lock.acquire")
+                    .description("락 획득 대기 시간")
+                    .tags("prefix", prefix, "result", "timeout")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry);
+            this.hold = Timer.builder("lock.hold")
+                    .description("락 보유 시간")
+                    .tags("prefix", prefix)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry);
+            this.timeouts = Counter.builder("lock.timeout")
+                    .description("락 획득 실패 횟수")
+                    .tags("prefix", prefix)
+                    .register(registry);
+            this.multiKeys = DistributionSummary.builder("lock.multi.keys")
+                    .description("다중 락 키 수")
+                    .tags("prefix", prefix)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 키를 한 번의 Lua 스크립트로 잠그는 다중 락
+ * - 키는 중복 제거 후 정렬된 순서로 전달받고 (LockKeyResolver), 하나라도 다른 소유자가 있으면 아무 키도 잠그지 않는다 (all-or-nothing).
+ * - Redisson RLock 과 같은 해시 구조(필드: 클라이언트 id:스레드 id, 값: 재진입 횟수)를 사용하므로
+ *   같은 키에 대한 단일 RLock 과 서로 배제되고, 해제 시 Redisson 대기자에게 해제 메시지를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisMultiLock {
+    private static final long MIN_RETRY_MS = 5;
+    private static final long MAX_RETRY_MS = 100;
+
+    // ARGV[1]: 임대 시간(ms), ARGV[2]: 락 소유자 이름
+    private static final DefaultRedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('exists', KEYS[i]) == 1 and redis.call('hexists', KEYS[i], ARGV[2]) == 0 then
+                    return 0
+                end
+            end
+            for i = 1, #KEYS do
+                redis.call('hincrby', KEYS[i], ARGV[2], 1)
+                redis.call('pexpire', KEYS[i], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // ARGV[1]: 락 소유자 이름, ARGV[2]: 재진입 락 남은 경우 임대 시간(ms)
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for i = 1, #KEYS do
+                if redis.call('hexists', KEYS[i], ARGV[1]) == 1 then
+                    local counter = redis.call('hincrby', KEYS[i], ARGV[1], -1)
+                    if counter > 0 then
+                        redis.call('pexpire', KEYS[i], ARGV[2])
+                    else
+                        redis.call('del', KEYS[i])
+                        redis.call('publish', 'redisson_lock__channel:{' .. KEYS[i] .. '}', 0)
+                        released = released + 1
+                    end
+                end
+            end
+            return released
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 모든 키 잠금 시도 - waitTime 안에 한 번에 모두 잠그지 못하면 false
+     * 잠근 키 목록은 unlock 에 그대로 전달해야 한다
+     */
+    public boolean tryLock(List<String> keys, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        if (keys.isEmpty()) {
+            return true;
+        }
+        String owner = ownerName();
+        String leaseMillis = String.valueOf(unit.toMillis(leaseTime));
+        long deadline = System.currentTimeMillis() + unit.toMillis(waitTime);
+        long retryMs = MIN_RETRY_MS;
+
+        while (true) {
+            Long acquired = redisTemplate.execute(LOCK_SCRIPT, keys, leaseMillis, owner);
+            if (acquired != null && acquired == 1L) {
+                return true;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            // 동시에 실패한 요청끼리 같은 시점에 재시도하지 않도록 지터 적용
+            long sleep = Math.min(remaining, ThreadLocalRandom.current().nextLong(MIN_RETRY_MS, retryMs + 1));
+            Thread.sleep(sleep);
+            retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+        }
+    }
+
+    // 현재 스레드가 잠근 키를 한 번에 해제하고 해제된 키 수를 반환
+    public long unlock(List<String> keys, long leaseTime, TimeUnit unit) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long released = redisTemplate.execute(UNLOCK_SCRIPT, keys, ownerName(), String.valueOf(unit.toMillis(leaseTime)));
+        return released == null ? 0 : released;
+    }
+
+    // Redisson RLock 의 락 소유자 이름과 동일한 형식
+    private String ownerName() {
+        return redissonClient.getId() + ":" + Thread.currentThread().getId();
+    }
+}
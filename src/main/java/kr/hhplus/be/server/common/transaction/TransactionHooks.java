@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업 등록
+ * Redis 등 트랜잭션에 참여하지 않는 저장소를 DB 커밋/롤백 결과에 맞춰 갱신할 때 사용한다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 커밋 후 실행 (트랜잭션이 없으면 즉시 실행)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 롤백 후 실행 (트랜잭션이 없으면 실행하지 않음)
+    public static void afterRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시퀀스 테이블(id_sequences) 초기화
+ * orders / order_items / payments 는 IDENTITY 로 채워진 뒤 시퀀스 테이블 ID 할당으로 바뀌었으므로
+ * 시작 시 각 시퀀스 값을 기존 최대 ID 이후로 올려 첫 INSERT 의 PK 충돌을 막는다 (값을 낮추지는 않음).
+ * 시퀀스 값은 할당 블록의 상한이므로 최대 ID + allocationSize 로 맞춘다.
+ * 스키마 생성 이후 실행되도록 EntityManagerFactory 빈에 의존하며, 운영 배포 시에는 sql/seed_id_sequences.sql 로도 맞출 수 있다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+    // @TableGenerator allocationSize 와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("orders", "orders", "order_id"),
+            new IdSequence("order_items", "order_items", "order_item_id"),
+            new IdSequence("payments", "payments", "payment_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        for (IdSequence sequence : SEQUENCES) {
+            jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) " +
+                    "SELECT ?, COALESCE(MAX(" + sequence.idColumn() + "), 0) + ? FROM " + sequence.table() + " " +
+                    "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+                    sequence.name(), ALLOCATION_SIZE);
+            Long nextVal = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequence.name());
+            log.info("ID 시퀀스 초기화 - {}: {}", sequence.name(), nextVal);
+        }
+    }
+
+    private record IdSequence(String name, String table, String idColumn) {
+    }
+}
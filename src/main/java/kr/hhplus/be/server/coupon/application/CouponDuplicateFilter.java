@@ -0,0 +1,182 @@
+package kr.hhplus.be.server.coupon.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
+import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 중복 발급 확인 앞단의 정책별 Bloom filter (Redis)
+ * 필터에 없으면 "발급된 적 없음"이 확실하므로 DB 를 조회하지 않고, 있다고 나온 경우만 DB 로 확인한다.
+ * 필터는 정책별 최초 확인 시 coupons 기준으로 한 서버만 생성하며, 생성이 끝나기 전에는 항상 DB 로 확인한다.
+ * 최종 중복 방지는 coupons (user_id, policy_id) 유니크 제약이 담당한다.
+ *
+ * - coupon.bloom.check          : 필터 확인 횟수 (result=negative|positive|unavailable)
+ * - coupon.bloom.false_positive : 필터에 있다고 나왔지만 DB 에 없었던 횟수
+ * - coupon.bloom.false_positive.rate : false_positive / (false_positive + negative)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponDuplicateFilter {
+    private static final String KEY_PREFIX = "COUPON:BLOOM:";
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final RedissonClient redissonClient;
+    private final CouponRepository couponRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 생성 완료를 확인한 정책 - 확인마다 Redis 의 생성 완료 표시를 조회하지 않도록 함
+    private final Set<Long> readyPolicies = ConcurrentHashMap.newKeySet();
+
+    @Value("${coupon.bloom.enabled:true}")
+    private boolean enabled;
+
+    @Value("${coupon.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${coupon.bloom.max-bytes-per-policy:1048576}")
+    private long maxBytesPerPolicy;
+
+    private Counter negative;
+    private Counter positive;
+    private Counter unavailable;
+    private Counter falsePositive;
+
+    @PostConstruct
+    void registerMetrics() {
+        this.negative = Counter.builder("coupon.bloom.check").tag("result", "negative").register(meterRegistry);
+        this.positive = Counter.builder("coupon.bloom.check").tag("result", "positive").register(meterRegistry);
+        this.unavailable = Counter.builder("coupon.bloom.check").tag("result", "unavailable").register(meterRegistry);
+        this.falsePositive = Counter.builder("coupon.bloom.false_positive").register(meterRegistry);
+        Gauge.builder("coupon.bloom.false_positive.rate", this, CouponDuplicateFilter::observedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자가 정책의 쿠폰을 이미 발급받았는지 확인 (필터 음성이면 DB 조회 생략)
+     */
+    public boolean alreadyIssued(CouponPolicy policy, Long userId) {
+        Long policyId = policy.getPolicyId();
+        if (!enabled || !ensureBuilt(policy)) {
+            unavailable.increment();
+            return couponRepository.existsByUserIdAndPolicyId(userId, policyId);
+        }
+
+        if (!bloomFilter(policyId).contains(String.valueOf(userId))) {
+            negative.increment();
+            return false;
+        }
+
+        positive.increment();
+        boolean issued = couponRepository.existsByUserIdAndPolicyId(userId, policyId);
+        if (!issued) {
+            falsePositive.increment();
+        }
+        return issued;
+    }
+
+    // 발급된 사용자를 필터에 추가 (필터 생성 전이면 생성 시 coupons 에서 읽어 오므로 생략)
+    public void add(Long policyId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            RBloomFilter<String> filter = bloomFilter(policyId);
+            if (filter.isExists()) {
+                filter.add(String.valueOf(userId));
+            }
+        } catch (Exception e) {
+            // 필터에 누락돼도 유니크 제약이 중복을 막으므로 발급은 계속 진행
+            log.warn("쿠폰 중복 필터 추가 실패 - policyId: {}, userId: {}, {}", policyId, userId, e.getMessage());
+        }
+    }
+
+    private boolean ensureBuilt(CouponPolicy policy) {
+        Long policyId = policy.getPolicyId();
+        if (readyPolicies.contains(policyId)) {
+            return true;
+        }
+        if (readyMark(policyId).isExists()) {
+            readyPolicies.add(policyId);
+            return true;
+        }
+
+        // 한 서버만 생성하고 나머지는 생성이 끝날 때까지 DB 로 확인
+        RLock buildLock = redissonClient.getLock(KEY_PREFIX + policyId + ":build");
+        if (!buildLock.tryLock()) {
+            return false;
+        }
+        try {
+            if (!readyMark(policyId).isExists()) {
+                build(policy);
+            }
+            readyPolicies.add(policyId);
+            return true;
+        } catch (Exception e) {
+            log.warn("쿠폰 중복 필터 생성 실패 - policyId: {}, {}", policyId, e.getMessage());
+            return false;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private void build(CouponPolicy policy) {
+        Long policyId = policy.getPolicyId();
+        long expectedInsertions = Math.max(policy.getTotalQuantity(), 1);
+        double rate = budgetedFalsePositiveRate(expectedInsertions);
+
+        RBloomFilter<String> filter = bloomFilter(policyId);
+        filter.delete();
+        filter.tryInit(expectedInsertions, rate);
+
+        List<String> issuedUserIds = couponRepository.findUserIdsByPolicyId(policyId).stream()
+                .map(String::valueOf)
+                .toList();
+        if (!issuedUserIds.isEmpty()) {
+            filter.add(issuedUserIds);
+        }
+        readyMark(policyId).set("1");
+        log.info("쿠폰 중복 필터 생성 - policyId: {}, 예상 발급 수: {}, 오탐률: {}, 비트 수: {}, 기존 발급 수: {}",
+                policyId, expectedInsertions, rate, filter.getSize(), issuedUserIds.size());
+    }
+
+    // 목표 오탐률에 필요한 비트 수가 정책당 메모리 한도를 넘으면 한도에 맞춰 오탐률을 높임
+    double budgetedFalsePositiveRate(long expectedInsertions) {
+        long maxBitsPerPolicy = maxBytesPerPolicy * 8;
+        double requiredBits = -expectedInsertions * Math.log(falsePositiveRate) / LN2_SQUARED;
+        if (requiredBits <= maxBitsPerPolicy) {
+            return falsePositiveRate;
+        }
+        return Math.min(Math.exp(-maxBitsPerPolicy * LN2_SQUARED / expectedInsertions), 0.5);
+    }
+
+    private double observedFalsePositiveRate() {
+        // 실제로 발급되지 않은 사용자 확인 중 필터가 있다고 답한 비율
+        double notIssued = falsePositive.count() + negative.count();
+        return notIssued == 0 ? 0 : falsePositive.count() / notIssued;
+    }
+
+    private RBloomFilter<String> bloomFilter(Long policyId) {
+        return redissonClient.getBloomFilter(KEY_PREFIX + policyId, StringCodec.INSTANCE);
+    }
+
+    private RBucket<String> readyMark(Long policyId) {
+        return redissonClient.getBucket(KEY_PREFIX + policyId + ":ready", StringCodec.INSTANCE);
+    }
+}
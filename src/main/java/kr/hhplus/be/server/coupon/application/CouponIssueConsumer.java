@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.coupon.application;
+
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.repository.CouponIssueCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 대기열(Redis Stream) 소비자
+ * 처리 중 실패한 건은 확인(XACK) 하지 않으므로 다음 주기에 미확인 건부터 다시 처리하고,
+ * 다른 서버가 오래 잡고 있는 미확인 건은 가져와 처리한다.
+ * 일괄 저장이 실패하면 건별로 다시 저장해 실패 원인 건만 남기고, 전달 횟수가 max-deliveries 에 이른 건은 실패 대기열로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueConsumer {
+    private final CouponIssueCacheRepository couponIssueCacheRepository;
+    private final CouponIssueService couponIssueService;
+
+    @Value("${coupon.issue.batch-size:500}")
+    private int batchSize;
+
+    @Value("${coupon.issue.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    @Value("${coupon.issue.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.poll-interval-ms:200}")
+    public void consume() {
+        try {
+            // 이전에 받았지만 확인하지 못한 건부터 처리
+            List<CouponIssueEvent> events = couponIssueCacheRepository.readPending(batchSize);
+            if (events.isEmpty()) {
+                events = couponIssueCacheRepository.readNew(batchSize);
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            try {
+                int saved = couponIssueService.persistIssued(events);
+                couponIssueCacheRepository.acknowledge(events.stream().map(CouponIssueEvent::eventId).toList());
+                log.debug("쿠폰 발급 건 저장 - 수신: {}, 저장: {}", events.size(), saved);
+            } catch (Exception e) {
+                log.warn("쿠폰 발급 건 일괄 저장 실패, 건별 저장으로 전환: {}", e.getMessage());
+                persistEach(events);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 건 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 건별 저장 - 성공한 건은 확인하고, 실패한 건은 전달 횟수가 한도에 이르면 실패 대기열로 이동
+    private void persistEach(List<CouponIssueEvent> events) {
+        int failed = 0;
+        for (CouponIssueEvent event : events) {
+            try {
+                couponIssueService.persistIssued(List.of(event));
+                couponIssueCacheRepository.acknowledge(List.of(event.eventId()));
+            } catch (Exception e) {
+                failed++;
+                log.error("쿠폰 발급 건 저장 실패 - id: {}, policyId: {}, userId: {}: {}",
+                        event.eventId(), event.policyId(), event.userId(), e.getMessage());
+            }
+        }
+        if (failed > 0) {
+            int moved = couponIssueCacheRepository.deadLetter(maxDeliveries, batchSize);
+            if (moved > 0) {
+                log.error("반복 실패한 쿠폰 발급 건을 실패 대기열로 이동: {}", moved);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.claim-interval-ms:30000}")
+    public void claimStale() {
+        try {
+            int claimed = couponIssueCacheRepository.claimStale(Duration.ofMillis(claimIdleMs), batchSize);
+            if (claimed > 0) {
+                log.info("다른 소비자의 미확인 쿠폰 발급 건 인수: {}", claimed);
+            }
+        } catch (Exception e) {
+            log.error("미확인 쿠폰 발급 건 인수 실패: {}", e.getMessage(), e);
+        }
+    }
+}
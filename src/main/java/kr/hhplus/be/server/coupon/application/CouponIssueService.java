@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.coupon.application;
+
+import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.CouponIssueStatus;
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
+import kr.hhplus.be.server.coupon.domain.repository.CouponIssueCacheRepository;
+import kr.hhplus.be.server.coupon.domain.repository.CouponPolicyRepository;
+import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 선착순 쿠폰 발급
+ * 발급 여부는 Redis 스크립트 한 번으로 확정하고 (남은 수량 / 중복 사용자 / 수량 차감),
+ * 쿠폰 저장은 대기열(Redis Stream)을 소비하는 CouponIssueConsumer 가 일괄 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueService {
+    private final CouponIssueCacheRepository couponIssueCacheRepository;
+    private final CouponPolicyRepository couponPolicyRepository;
+    private final CouponRepository couponRepository;
+
+    /**
+     * 선착순 쿠폰 발급 (DB 조회 없이 Redis 에서 확정)
+     * 정책이 아직 Redis 에 없으면 DB 기준으로 한 번 적재 후 다시 시도
+     */
+    public void issue(Long policyId, Long userId) {
+        CouponIssueStatus status = couponIssueCacheRepository.issue(policyId, userId);
+        if (status == CouponIssueStatus.NOT_LOADED) {
+            load(policyId);
+            status = couponIssueCacheRepository.issue(policyId, userId);
+        }
+
+        switch (status) {
+            case ISSUED -> log.debug("쿠폰 발급 확정 - policyId: {}, userId: {}", policyId, userId);
+            case SOLD_OUT -> throw new RuntimeException("쿠폰이 모두 소진되었습니다.");
+            case ALREADY_ISSUED -> throw new RuntimeException("이미 발급받은 쿠폰입니다.");
+            case NOT_LOADED -> throw new RuntimeException("쿠폰 정책을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 확정된 발급 건을 쿠폰으로 일괄 저장
+     * 재전달된 발급 건(이미 저장된 사용자)과 정책이 없는 발급 건은 건너뛴다
+     */
+    @Transactional
+    public int persistIssued(List<CouponIssueEvent> events) {
+        Map<Long, List<CouponIssueEvent>> eventsByPolicy = events.stream()
+                .collect(Collectors.groupingBy(CouponIssueEvent::policyId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Coupon> coupons = new ArrayList<>(events.size());
+        for (Map.Entry<Long, List<CouponIssueEvent>> entry : eventsByPolicy.entrySet()) {
+            Optional<CouponPolicy> policy = couponPolicyRepository.findById(entry.getKey());
+            if (policy.isEmpty()) {
+                log.warn("쿠폰 정책 없음, 발급 건 건너뜀 - policyId: {}, 건수: {}", entry.getKey(), entry.getValue().size());
+                continue;
+            }
+
+            Set<Long> userIds = entry.getValue().stream().map(CouponIssueEvent::userId).collect(Collectors.toSet());
+            Set<Long> persisted = new HashSet<>(couponRepository.findUserIdsByPolicyIdAndUserIdIn(entry.getKey(), userIds));
+            int added = 0;
+            for (CouponIssueEvent event : entry.getValue()) {
+                if (persisted.add(event.userId())) {
+                    coupons.add(Coupon.createFromPolicy(policy.get(), event.userId(), event.issuedAt()));
+                    added++;
+                }
+            }
+            // 수량은 Redis 에서 이미 확정됐으므로 조건 없이 반영
+            if (added > 0) {
+                couponPolicyRepository.addIssuedQuantity(entry.getKey(), added);
+            }
+        }
+
+        couponRepository.saveAllInBatch(coupons);
+        return coupons.size();
+    }
+
+    // 정책의 남은 수량과 발급 사용자를 DB 기준으로 Redis 에 적재
+    private void load(Long policyId) {
+        couponPolicyRepository.findById(policyId).ifPresent(policy -> {
+            List<Long> issuedUserIds = couponRepository.findUserIdsByPolicyId(policyId);
+            couponIssueCacheRepository.load(policyId, policy.getTotalQuantity() - issuedUserIds.size(), issuedUserIds);
+            log.info("쿠폰 발급 정보 적재 - policyId: {}, 발급 수: {}", policyId, issuedUserIds.size());
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.coupon.application;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.coupon.domain.CouponIssueMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정책별 발급 수량 컬럼을 실제 발급된 쿠폰 수로 주기적으로 보정
+ * (발급 수량을 갱신하지 않는 DB 발급 경로, 수동 데이터 변경 등으로 생긴 차이)
+ * COUNTER 발급은 발급 수량 컬럼만으로 남은 수량을 판단하므로, 기동 시 요청을 받기 전에 한 번 보정한다
+ * (컬럼 추가 전 정책은 0 으로 시작해 초과 발급됨 - sql/backfill_coupon_policy_issued_quantity.sql 과 동일).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedQuantityReconciler {
+    private final CouponService couponService;
+
+    @Value("${coupon.issue.mode:DB}")
+    private CouponIssueMode issueMode;
+
+    @PostConstruct
+    void reconcileBeforeCounterIssue() {
+        if (issueMode != CouponIssueMode.COUNTER) {
+            return;
+        }
+        int corrected = couponService.reconcileIssuedQuantities();
+        log.info("COUNTER 발급 전 쿠폰 발급 수량 보정 - 정책 수: {}", corrected);
+    }
+
+    @Scheduled(cron = "${coupon.issued-quantity.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        try {
+            int corrected = couponService.reconcileIssuedQuantities();
+            if (corrected > 0) {
+                log.warn("쿠폰 발급 수량 보정 - 정책 수: {}", corrected);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 수량 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
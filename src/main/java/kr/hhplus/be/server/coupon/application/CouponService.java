@@ -5,15 +5,25 @@ import kr.hhplus.be.server.coupon.domain.CouponPolicy;
 import kr.hhplus.be.server.coupon.domain.repository.CouponPolicyRepository;
 import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CouponService {
 
     private final CouponPolicyRepository couponPolicyRepository;
     private final CouponRepository couponRepository;
+    private final CouponDuplicateFilter couponDuplicateFilter;
+
+    @Value("${coupon.pool.chunk-size:1000}")
+    private int poolChunkSize = 1000;
 
     /**
      * 선착순 쿠폰 발급 기능
@@ -37,7 +47,7 @@ public class CouponService {
         }
 
         Coupon coupon = Coupon.createFromPolicy(policy, userId);
-        return couponRepository.save(coupon);
+        return saveIssued(coupon);
     }
 
     /**
@@ -62,6 +72,101 @@ public class CouponService {
         }
 
         Coupon coupon = Coupon.createFromPolicy(policy, userId);
-        return couponRepository.save(coupon);
+        return saveIssued(coupon);
+    }
+
+    /**
+     * 발급 수량 컬럼을 사용하는 선착순 쿠폰 발급 기능
+     * COUNT 조회 없이 조건부 UPDATE 한 번으로 수량을 확보하고, 이 UPDATE 의 행 락으로 같은 정책의 발급이 순서대로 처리된다.
+     * 중복 확인은 행 락을 얻은 뒤에 해야 먼저 커밋된 같은 사용자의 쿠폰이 보인다 (실패 시 롤백으로 수량도 복구).
+     * 중복 확인은 Bloom filter 가 발급 이력이 없다고 답하면 DB 를 조회하지 않는다.
+     */
+    @Transactional
+    public Coupon issueFirstComeCouponWithCounter(Long policyId, Long userId) {
+        if (!couponPolicyRepository.increaseIssuedQuantity(policyId)) {
+            // 정책이 없는 경우와 소진된 경우 구분
+            couponPolicyRepository.findById(policyId)
+                    .orElseThrow(() -> new RuntimeException("쿠폰 정책을 찾을 수 없습니다."));
+            throw new RuntimeException("쿠폰이 모두 소진되었습니다.");
+        }
+
+        CouponPolicy policy = couponPolicyRepository.findById(policyId)
+                .orElseThrow(() -> new RuntimeException("쿠폰 정책을 찾을 수 없습니다."));
+        if (couponDuplicateFilter.alreadyIssued(policy, userId)) {
+            throw new RuntimeException("이미 발급받은 쿠폰입니다.");
+        }
+
+        Coupon coupon = saveIssued(Coupon.createFromPolicy(policy, userId));
+        couponDuplicateFilter.add(policyId, userId);
+        return coupon;
+    }
+
+    /**
+     * 정책별 발급 수량을 coupons 기준으로 재계산
+     */
+    @Transactional
+    public int reconcileIssuedQuantities() {
+        return couponPolicyRepository.reconcileIssuedQuantities();
+    }
+
+    /**
+     * 쿠폰 정책 생성 - 총 수량만큼 미배정 쿠폰을 함께 생성 (chunk 단위 일괄 저장)
+     */
+    @Transactional
+    public CouponPolicy createPolicyWithPool(CouponPolicy policy) {
+        if (policy.getTotalQuantity() == null || policy.getTotalQuantity() <= 0) {
+            throw new IllegalArgumentException("총 발급 수량은 0보다 커야 합니다.");
+        }
+        if (policy.getExpiredDays() == null || policy.getExpiredDays() <= 0) {
+            throw new IllegalArgumentException("유효 기간은 0보다 커야 합니다.");
+        }
+        policy.setCreatedAt(LocalDateTime.now());
+        policy.setUpdatedAt(LocalDateTime.now());
+        CouponPolicy saved = couponPolicyRepository.save(policy);
+
+        List<Coupon> chunk = new ArrayList<>(poolChunkSize);
+        for (int i = 0; i < saved.getTotalQuantity(); i++) {
+            chunk.add(Coupon.createPooled(saved));
+            if (chunk.size() == poolChunkSize) {
+                couponRepository.saveAllInBatch(chunk);
+                chunk = new ArrayList<>(poolChunkSize);
+            }
+        }
+        couponRepository.saveAllInBatch(chunk);
+        return saved;
+    }
+
+    /**
+     * 미리 생성된 쿠폰을 배정하는 선착순 쿠폰 발급 기능
+     * 다른 트랜잭션이 잠근 쿠폰은 건너뛰므로 (SKIP LOCKED) 발급 요청끼리, 또는 정책 행에서 서로 기다리지 않는다.
+     * 발급 수량 컬럼은 정책 행 락을 피하기 위해 갱신하지 않고 CouponIssuedQuantityReconciler 가 반영한다.
+     */
+    @Transactional
+    public Coupon issuePooledCoupon(Long policyId, Long userId) {
+        CouponPolicy policy = couponPolicyRepository.findById(policyId)
+                .orElseThrow(() -> new RuntimeException("쿠폰 정책을 찾을 수 없습니다."));
+
+        if (couponDuplicateFilter.alreadyIssued(policy, userId)) {
+            throw new RuntimeException("이미 발급받은 쿠폰입니다.");
+        }
+
+        Coupon coupon = couponRepository.findPooledCouponForUpdate(policyId)
+                .orElseThrow(() -> new RuntimeException("쿠폰이 모두 소진되었습니다."));
+        coupon.assignTo(policy, userId);
+        saveIssued(coupon);
+        couponDuplicateFilter.add(policyId, userId);
+        return coupon;
+    }
+
+    // 발급 쿠폰 저장 - 동시에 들어온 같은 사용자의 발급은 유니크 제약(uk_coupons_user_policy)에서 걸리므로
+    // 바로 flush 해 제약 위반을 여기서 받고, SQL 이 담긴 예외 대신 중복 발급으로 응답한다
+    private Coupon saveIssued(Coupon coupon) {
+        try {
+            Coupon saved = couponRepository.save(coupon);
+            couponRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 발급받은 쿠폰입니다.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,7 +6,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupons_user_policy", columnNames = {"user_id", "policy_id"}),
+        indexes = @Index(name = "idx_coupons_policy_status", columnList = "policy_id, coupon_status"))
 @Getter @Setter
 public class Coupon {
 
@@ -15,7 +17,8 @@ public class Coupon {
     @Column(name = "coupon_id")
     private Long couponId;
 
-    @Column(name = "user_id", nullable = false)
+    // 미리 생성된 미배정 쿠폰(POOLED)은 null
+    @Column(name = "user_id")
     private Long userId;
 
     @Column(name = "policy_id", nullable = false)
@@ -35,16 +38,39 @@ public class Coupon {
 
     // 도메인 메서드: 쿠폰 생성
     public static Coupon createFromPolicy(CouponPolicy policy, Long userId) {
+        return createFromPolicy(policy, userId, LocalDateTime.now());
+    }
+
+    // 도메인 메서드: 발급 시각 기준 쿠폰 생성 (발급 확정 후 나중에 저장하는 경우)
+    public static Coupon createFromPolicy(CouponPolicy policy, Long userId, LocalDateTime issuedAt) {
         Coupon coupon = new Coupon();
         coupon.setUserId(userId);
         coupon.setPolicyId(policy.getPolicyId());
-        coupon.setExpiredAt(policy.calculateExpiryDate());
+        coupon.setExpiredAt(policy.calculateExpiryDate(issuedAt));
         coupon.setCouponStatus("AVAILABLE");
+        coupon.setCreatedAt(issuedAt);
+        coupon.setUpdatedAt(LocalDateTime.now());
+        return coupon;
+    }
+
+    // 도메인 메서드: 사용자에게 배정되지 않은 쿠폰 생성 (발급 시 assignTo 로 배정)
+    public static Coupon createPooled(CouponPolicy policy) {
+        Coupon coupon = new Coupon();
+        coupon.setPolicyId(policy.getPolicyId());
+        coupon.setCouponStatus("POOLED");
         coupon.setCreatedAt(LocalDateTime.now());
         coupon.setUpdatedAt(LocalDateTime.now());
         return coupon;
     }
 
+    // 도메인 메서드: 미배정 쿠폰을 사용자에게 배정 (만료일은 배정 시점 기준)
+    public void assignTo(CouponPolicy policy, Long userId) {
+        this.userId = userId;
+        this.expiredAt = policy.calculateExpiryDate();
+        this.couponStatus = "AVAILABLE";
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 도메인 메서드: 쿠폰 상태 복원
     public void restore() {
         this.couponStatus = "AVAILABLE";
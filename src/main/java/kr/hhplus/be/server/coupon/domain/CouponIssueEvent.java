@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.coupon.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis에서 발급 확정된 쿠폰 - DB 저장 대기열(Stream) 항목
+ */
+public record CouponIssueEvent(
+        String eventId,
+        Long policyId,
+        Long userId,
+        LocalDateTime issuedAt
+) {
+}
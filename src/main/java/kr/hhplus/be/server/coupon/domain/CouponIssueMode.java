@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.coupon.domain;
+
+public enum CouponIssueMode {
+    DB,      // 발급 수량/중복을 DB 에서 확인 후 바로 저장
+    COUNTER, // 정책의 발급 수량 컬럼을 조건부 UPDATE 로 증가 후 저장
+    POOL,    // 미리 생성된 쿠폰 중 잠기지 않은 쿠폰을 SKIP LOCKED 로 배정
+    REDIS    // Redis 스크립트로 발급 확정 후 대기열을 통해 DB 에 일괄 저장
+}
@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.coupon.domain;
+
+/**
+ * Redis 선착순 쿠폰 발급 결과
+ */
+public enum CouponIssueStatus {
+    ISSUED,          // 발급 성공 (DB 저장 대기열에 추가됨)
+    SOLD_OUT,        // 수량 소진
+    ALREADY_ISSUED,  // 이미 발급받은 사용자
+    NOT_LOADED       // 발급 정보가 Redis에 적재되지 않음
+}
@@ -24,6 +24,10 @@ public class CouponPolicy {
     @Column(name = "total_quantity", nullable = false)
     private Integer totalQuantity;
 
+    // 발급 수량 (조건부 UPDATE 로만 증가, 정합성은 CouponIssuedQuantityReconciler 가 보정)
+    @Column(name = "issued_quantity", nullable = false, columnDefinition = "int not null default 0")
+    private Integer issuedQuantity = 0;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -37,6 +41,11 @@ public class CouponPolicy {
 
     // 도메인 메서드: 만료일 계산
     public LocalDateTime calculateExpiryDate() {
-        return LocalDateTime.now().plusDays(this.expiredDays);
+        return calculateExpiryDate(LocalDateTime.now());
+    }
+
+    // 도메인 메서드: 발급 시각 기준 만료일 계산
+    public LocalDateTime calculateExpiryDate(LocalDateTime issuedAt) {
+        return issuedAt.plusDays(this.expiredDays);
     }
 }
\ No newline at end of file
@@ -14,6 +14,10 @@ public class CouponIssueResponse {
         return new CouponIssueResponse(true, couponId, "쿠폰이 성공적으로 발급되었습니다.");
     }
 
+    public static CouponIssueResponse accepted() {
+        return new CouponIssueResponse(true, null, "쿠폰 발급이 확정되었습니다.");
+    }
+
     public static CouponIssueResponse fail(String message) {
         return new CouponIssueResponse(false, null, message);
     }
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.coupon.domain.dto.request;
+
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponPolicyRequest {
+    // 할인 금액
+    private Integer discountAmount;
+
+    // 발급 후 유효 기간 (일)
+    private Integer expiredDays;
+
+    // 총 발급 수량
+    private Integer totalQuantity;
+
+    public CouponPolicy toPolicy() {
+        CouponPolicy policy = new CouponPolicy();
+        policy.setDiscountAmount(discountAmount);
+        policy.setExpiredDays(expiredDays);
+        policy.setTotalQuantity(totalQuantity);
+        return policy;
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.coupon.domain.repository;
+
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.CouponIssueStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+public interface CouponIssueCacheRepository {
+    // 남은 수량 확인, 중복 확인, 수량 차감, 저장 대기열 추가를 하나의 스크립트로 처리
+    CouponIssueStatus issue(Long policyId, Long userId);
+
+    // 발급 정보가 없을 때만 DB 기준으로 적재 (이미 발급받은 사용자 포함)
+    void load(Long policyId, long remainingQuantity, Collection<Long> issuedUserIds);
+
+    // 이 소비자에게 전달됐지만 아직 처리 완료되지 않은 항목
+    List<CouponIssueEvent> readPending(int count);
+
+    // 새로 들어온 항목
+    List<CouponIssueEvent> readNew(int count);
+
+    // 오래 처리되지 않은 다른 소비자의 항목을 가져옴 (다음 readPending 에서 처리)
+    int claimStale(Duration minIdle, int count);
+
+    // DB 저장이 끝난 항목 제거
+    void acknowledge(List<String> eventIds);
+
+    // 전달 횟수가 maxDeliveries 이상인 이 소비자의 미확인 항목을 실패 대기열로 옮김 - 옮긴 건수 반환
+    int deadLetter(int maxDeliveries, int count);
+}
@@ -7,6 +7,16 @@ import java.util.Optional;
 public interface CouponPolicyRepository {
     Optional<CouponPolicy> findById(Long policyId);
 
+    CouponPolicy save(CouponPolicy policy);
+
     // 비관적 락이 적용된 메서드 추가
     Optional<CouponPolicy> findByIdWithLock(Long policyId);
+
+    // 발급 수량이 총 수량보다 작을 때만 1 증가 - 증가했으면 true
+    boolean increaseIssuedQuantity(Long policyId);
+
+    void addIssuedQuantity(Long policyId, int quantity);
+
+    // 발급 수량을 coupons 기준으로 다시 계산하고 보정된 정책 수를 반환
+    int reconcileIssuedQuantities();
 }
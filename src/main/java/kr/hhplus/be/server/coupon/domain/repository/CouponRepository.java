@@ -2,7 +2,12 @@ package kr.hhplus.be.server.coupon.domain.repository;
 
 import kr.hhplus.be.server.coupon.domain.Coupon;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface CouponRepository {
+    // 사용자에게 배정된 쿠폰 수 (미배정 POOLED 쿠폰 제외)
     long countByPolicyId(Long policyId);
 
     boolean existsByUserIdAndPolicyId(Long userId, Long policyId);
@@ -11,8 +16,21 @@ public interface CouponRepository {
 
     Coupon save(Coupon coupon);
 
+    // 보류 중인 변경을 즉시 반영 (제약 위반을 호출 지점에서 확인)
+    void flush();
+
     // 비관적 락이 적용된 메서드 추가
     long countByPolicyIdWithLock(Long policyId);
 
     boolean existsByUserIdAndPolicyIdWithLock(Long userId, Long policyId);
+
+    // 여러 쿠폰 일괄 저장 (multi-row insert)
+    void saveAllInBatch(List<Coupon> coupons);
+
+    List<Long> findUserIdsByPolicyId(Long policyId);
+
+    List<Long> findUserIdsByPolicyIdAndUserIdIn(Long policyId, Collection<Long> userIds);
+
+    // 다른 트랜잭션이 잠근 행은 건너뛰고 미배정 쿠폰 하나를 잠가서 조회
+    Optional<Coupon> findPooledCouponForUpdate(Long policyId);
 }
@@ -0,0 +1,216 @@
+package kr.hhplus.be.server.coupon.infrastructure;
+
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.CouponIssueStatus;
+import kr.hhplus.be.server.coupon.domain.repository.CouponIssueCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 선착순 쿠폰 발급 저장소
+ * COUPON:REMAINING:{policyId} - 남은 발급 수량
+ * COUPON:ISSUED:{policyId}    - 발급받은 사용자 ID (set)
+ * COUPON:ISSUE:STREAM         - DB 저장 대기열 (소비자 그룹 coupon-issue)
+ * COUPON:ISSUE:DEAD           - 반복 실패/형식 오류로 저장하지 못한 항목 (원본 ID 는 sourceId)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueCacheRepositoryImpl implements CouponIssueCacheRepository {
+    private static final String REMAINING_KEY_PREFIX = "COUPON:REMAINING:";
+    private static final String ISSUED_KEY_PREFIX = "COUPON:ISSUED:";
+    private static final String STREAM_KEY = "COUPON:ISSUE:STREAM";
+    private static final String DEAD_LETTER_KEY = "COUPON:ISSUE:DEAD";
+    private static final String GROUP = "coupon-issue";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    // KEYS[1] 남은 수량, KEYS[2] 발급 사용자 set, KEYS[3] 대기열 / ARGV[1] 사용자 ID, ARGV[2] 정책 ID, ARGV[3] 발급 시각
+    // 반환값: 0 발급, 1 소진, 2 중복, -1 미적재
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local remaining = redis.call('GET', KEYS[1])
+            if not remaining then
+                return -1
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 2
+            end
+            if tonumber(remaining) <= 0 then
+                return 1
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('XADD', KEYS[3], '*', 'policyId', ARGV[2], 'userId', ARGV[1], 'issuedAt', ARGV[3])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private volatile boolean groupReady;
+
+    @Value("${coupon.issue.consumer-name:${HOSTNAME:coupon-consumer}}")
+    private String consumerName;
+
+    @Override
+    public CouponIssueStatus issue(Long policyId, Long userId) {
+        Long result = redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(REMAINING_KEY_PREFIX + policyId, ISSUED_KEY_PREFIX + policyId, STREAM_KEY),
+                String.valueOf(userId), String.valueOf(policyId), LocalDateTime.now().toString());
+        if (result == null || result < 0) {
+            return CouponIssueStatus.NOT_LOADED;
+        }
+        return switch (result.intValue()) {
+            case 0 -> CouponIssueStatus.ISSUED;
+            case 1 -> CouponIssueStatus.SOLD_OUT;
+            default -> CouponIssueStatus.ALREADY_ISSUED;
+        };
+    }
+
+    @Override
+    public void load(Long policyId, long remainingQuantity, Collection<Long> issuedUserIds) {
+        String remainingKey = REMAINING_KEY_PREFIX + policyId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(remainingKey))) {
+            return;
+        }
+        // 발급 사용자를 먼저 넣고 남은 수량을 마지막에 설정 - 수량 키가 생기기 전에는 발급이 시작되지 않음
+        List<String> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+        for (Long userId : issuedUserIds) {
+            chunk.add(String.valueOf(userId));
+            if (chunk.size() == LOAD_CHUNK_SIZE) {
+                redisTemplate.opsForSet().add(ISSUED_KEY_PREFIX + policyId, chunk.toArray(String[]::new));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForSet().add(ISSUED_KEY_PREFIX + policyId, chunk.toArray(String[]::new));
+        }
+        redisTemplate.opsForValue().setIfAbsent(remainingKey, String.valueOf(Math.max(remainingQuantity, 0)));
+    }
+
+    @Override
+    public List<CouponIssueEvent> readPending(int count) {
+        return read(count, ReadOffset.from("0"));
+    }
+
+    @Override
+    public List<CouponIssueEvent> readNew(int count) {
+        return read(count, ReadOffset.lastConsumed());
+    }
+
+    @Override
+    public int claimStale(Duration minIdle, int count) {
+        ensureGroup();
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        RecordId[] staleIds = pendingMessages.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return 0;
+        }
+        redisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumerName, XClaimOptions.minIdle(minIdle).ids(staleIds));
+        return staleIds.length;
+    }
+
+    @Override
+    public void acknowledge(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        String[] ids = eventIds.toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        // 처리 끝난 항목은 대기열에서 삭제해 길이를 유지
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    @Override
+    public int deadLetter(int maxDeliveries, int count) {
+        ensureGroup();
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, Consumer.from(GROUP, consumerName), Range.unbounded(), count);
+        int moved = 0;
+        for (PendingMessage message : pendingMessages) {
+            if (message.getTotalDeliveryCount() < maxDeliveries) {
+                continue;
+            }
+            String id = message.getIdAsString();
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM_KEY, Range.closed(id, id));
+            moveToDeadLetter(id, records == null || records.isEmpty() ? Map.of() : records.get(0).getValue());
+            moved++;
+        }
+        return moved;
+    }
+
+    private List<CouponIssueEvent> read(int count, ReadOffset offset) {
+        ensureGroup();
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<CouponIssueEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                events.add(new CouponIssueEvent(
+                        record.getId().getValue(),
+                        Long.valueOf((String) value.get("policyId")),
+                        Long.valueOf((String) value.get("userId")),
+                        LocalDateTime.parse((String) value.get("issuedAt"))));
+            } catch (RuntimeException e) {
+                // 형식이 잘못된 항목은 재시도해도 실패하므로 바로 실패 대기열로 이동
+                log.warn("쿠폰 발급 대기열 항목 형식 오류 - id: {}, 값: {}", record.getId().getValue(), value);
+                moveToDeadLetter(record.getId().getValue(), value);
+            }
+        }
+        return events;
+    }
+
+    // 원본 필드와 원본 ID 를 실패 대기열에 남기고 저장 대기열에서 제거
+    private void moveToDeadLetter(String eventId, Map<Object, Object> value) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        value.forEach((field, fieldValue) -> fields.put(String.valueOf(field), String.valueOf(fieldValue)));
+        fields.put("sourceId", eventId);
+        redisTemplate.opsForStream().add(DEAD_LETTER_KEY, fields);
+        acknowledge(List.of(eventId));
+    }
+
+    // 대기열과 소비자 그룹이 없으면 생성
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류 - 무시
+            log.debug("쿠폰 발급 소비자 그룹 생성 생략: {}", e.getMessage());
+        }
+        groupReady = true;
+    }
+}
@@ -17,8 +17,28 @@ public class CouponPolicyRepositoryImpl implements CouponPolicyRepository {
         return couponPolicyJpaRepository.findById(policyId);
     }
 
+    @Override
+    public CouponPolicy save(CouponPolicy policy) {
+        return couponPolicyJpaRepository.save(policy);
+    }
+
     @Override
     public Optional<CouponPolicy> findByIdWithLock(Long policyId) {
         return couponPolicyJpaRepository.findByIdWithLock(policyId);
     }
+
+    @Override
+    public boolean increaseIssuedQuantity(Long policyId) {
+        return couponPolicyJpaRepository.increaseIssuedQuantityIfAvailable(policyId) > 0;
+    }
+
+    @Override
+    public void addIssuedQuantity(Long policyId, int quantity) {
+        couponPolicyJpaRepository.addIssuedQuantity(policyId, quantity);
+    }
+
+    @Override
+    public int reconcileIssuedQuantities() {
+        return couponPolicyJpaRepository.reconcileIssuedQuantities();
+    }
 }
@@ -4,12 +4,25 @@ import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
 import kr.hhplus.be.server.coupon.infrastructure.repository.CouponJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 @RequiredArgsConstructor
 public class CouponRepositoryImpl implements CouponRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO coupons (user_id, policy_id, expired_at, coupon_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
     private final CouponJpaRepository couponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public long countByPolicyId(Long policyId) {
@@ -31,6 +44,11 @@ public class CouponRepositoryImpl implements CouponRepository {
         return couponJpaRepository.save(coupon);
     }
 
+    @Override
+    public void flush() {
+        couponJpaRepository.flush();
+    }
+
     @Override
     public long countByPolicyIdWithLock(Long policyId) {
         return couponJpaRepository.countByPolicyIdWithLock(policyId);
@@ -40,4 +58,35 @@ public class CouponRepositoryImpl implements CouponRepository {
     public boolean existsByUserIdAndPolicyIdWithLock(Long userId, Long policyId) {
         return couponJpaRepository.existsByUserIdAndPolicyIdWithLock(userId, policyId);
     }
+
+    // IDENTITY 키는 Hibernate 배치 insert 가 되지 않으므로 JDBC 배치로 저장 (rewriteBatchedStatements 로 multi-row insert)
+    @Override
+    public void saveAllInBatch(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, coupons, coupons.size(), (ps, coupon) -> {
+            ps.setObject(1, coupon.getUserId());
+            ps.setLong(2, coupon.getPolicyId());
+            ps.setTimestamp(3, coupon.getExpiredAt() != null ? Timestamp.valueOf(coupon.getExpiredAt()) : null);
+            ps.setString(4, coupon.getCouponStatus());
+            ps.setTimestamp(5, Timestamp.valueOf(coupon.getCreatedAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(coupon.getUpdatedAt()));
+        });
+    }
+
+    @Override
+    public List<Long> findUserIdsByPolicyId(Long policyId) {
+        return couponJpaRepository.findUserIdsByPolicyId(policyId);
+    }
+
+    @Override
+    public List<Long> findUserIdsByPolicyIdAndUserIdIn(Long policyId, Collection<Long> userIds) {
+        return couponJpaRepository.findUserIdsByPolicyIdAndUserIdIn(policyId, userIds);
+    }
+
+    @Override
+    public Optional<Coupon> findPooledCouponForUpdate(Long policyId) {
+        return couponJpaRepository.findPooledCouponsWithLock(policyId, PageRequest.of(0, 1)).stream().findFirst();
+    }
 }
@@ -1,14 +1,22 @@
 package kr.hhplus.be.server.coupon.infrastructure.repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.hhplus.be.server.coupon.domain.Coupon;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
-     long countByPolicyId(Long policyId);
+    // 사용자에게 배정된 쿠폰만 집계 (미배정 POOLED 쿠폰 제외)
+    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.policyId = :policyId AND c.userId IS NOT NULL")
+    long countByPolicyId(@Param("policyId") Long policyId);
 
      boolean existsByUserIdAndPolicyId(Long userId, Long policyId);
 
@@ -16,10 +24,22 @@ public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
 
     // 비관적 락이 적용된 새로운 메서드 추가
     @Lock(LockModeType.PESSIMISTIC_READ)
-    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.policyId = :policyId")
+    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.policyId = :policyId AND c.userId IS NOT NULL")
     long countByPolicyIdWithLock(@Param("policyId") Long policyId);
 
     @Lock(LockModeType.PESSIMISTIC_READ)
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Coupon c WHERE c.userId = :userId AND c.policyId = :policyId")
     boolean existsByUserIdAndPolicyIdWithLock(@Param("userId") Long userId, @Param("policyId") Long policyId);
+
+    @Query("SELECT c.userId FROM Coupon c WHERE c.policyId = :policyId AND c.userId IS NOT NULL")
+    List<Long> findUserIdsByPolicyId(@Param("policyId") Long policyId);
+
+    @Query("SELECT c.userId FROM Coupon c WHERE c.policyId = :policyId AND c.userId IN :userIds")
+    List<Long> findUserIdsByPolicyIdAndUserIdIn(@Param("policyId") Long policyId, @Param("userIds") Collection<Long> userIds);
+
+    // SELECT ... FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM Coupon c WHERE c.policyId = :policyId AND c.couponStatus = 'POOLED'")
+    List<Coupon> findPooledCouponsWithLock(@Param("policyId") Long policyId, Pageable pageable);
 }
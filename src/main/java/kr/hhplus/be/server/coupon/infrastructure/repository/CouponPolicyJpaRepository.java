@@ -5,6 +5,7 @@ import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.coupon.domain.CouponPolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +16,25 @@ public interface CouponPolicyJpaRepository extends JpaRepository<CouponPolicy, L
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT cp FROM CouponPolicy cp WHERE cp.policyId = :id")
     Optional<CouponPolicy> findByIdWithLock(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponPolicy cp SET cp.issuedQuantity = cp.issuedQuantity + 1 " +
+            "WHERE cp.policyId = :id AND cp.issuedQuantity < cp.totalQuantity")
+    int increaseIssuedQuantityIfAvailable(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponPolicy cp SET cp.issuedQuantity = cp.issuedQuantity + :quantity WHERE cp.policyId = :id")
+    int addIssuedQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE coupon_policies cp
+            JOIN (SELECT p.policy_id, COUNT(c.coupon_id) AS issued
+                  FROM coupon_policies p
+                  LEFT JOIN coupons c ON c.policy_id = p.policy_id AND c.user_id IS NOT NULL
+                  GROUP BY p.policy_id) counted ON counted.policy_id = cp.policy_id
+            SET cp.issued_quantity = counted.issued
+            WHERE cp.issued_quantity <> counted.issued
+            """, nativeQuery = true)
+    int reconcileIssuedQuantities();
 }
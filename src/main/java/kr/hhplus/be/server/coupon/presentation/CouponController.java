@@ -1,10 +1,15 @@
 package kr.hhplus.be.server.coupon.presentation;
 
+import kr.hhplus.be.server.coupon.application.CouponIssueService;
 import kr.hhplus.be.server.coupon.application.CouponService;
 import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.domain.CouponIssueMode;
 
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
 import kr.hhplus.be.server.coupon.domain.dto.reponse.CouponIssueResponse;
+import kr.hhplus.be.server.coupon.domain.dto.request.CouponPolicyRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,6 +19,19 @@ import org.springframework.web.bind.annotation.*;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponIssueService couponIssueService;
+
+    @Value("${coupon.issue.mode:DB}")
+    private CouponIssueMode issueMode;
+
+    /**
+     * 쿠폰 정책 생성 API - 총 수량만큼 미배정 쿠폰을 함께 생성 (POOL 발급 방식에서 배정)
+     */
+    @PostMapping("/policies")
+    public ResponseEntity<Long> createPolicy(@RequestBody CouponPolicyRequest request) {
+        CouponPolicy policy = couponService.createPolicyWithPool(request.toPolicy());
+        return ResponseEntity.ok(policy.getPolicyId());
+    }
 
     /**
      * 선착순 쿠폰 발급 API
@@ -24,8 +42,18 @@ public class CouponController {
             @RequestHeader("X-USER-ID") Long userId) {
 
         try {
+            if (issueMode == CouponIssueMode.REDIS) {
+                // Redis 에서 발급 확정, 쿠폰 저장은 비동기 (쿠폰 ID 는 저장 후 생성)
+                couponIssueService.issue(policyId, userId);
+                return ResponseEntity.ok(CouponIssueResponse.accepted());
+            }
+
             // 서비스 호출 (도메인 엔티티 반환)
-            Coupon coupon = couponService.issueFirstComeCoupon(policyId, userId);
+            Coupon coupon = switch (issueMode) {
+                case COUNTER -> couponService.issueFirstComeCouponWithCounter(policyId, userId);
+                case POOL -> couponService.issuePooledCoupon(policyId, userId);
+                default -> couponService.issueFirstComeCoupon(policyId, userId);
+            };
 
             // 컨트롤러에서 DTO로 변환
             return ResponseEntity.ok(CouponIssueResponse.success(coupon.getCouponId()));
@@ -2,6 +2,8 @@ package kr.hhplus.be.server.order.application;
 
 import kr.hhplus.be.server.common.exception.InsufficientStockException;
 import kr.hhplus.be.server.common.exception.PaymentException;
+import kr.hhplus.be.server.common.lock.ConcurrencyContext;
+import kr.hhplus.be.server.common.lock.ConcurrencyStrategy;
 import kr.hhplus.be.server.common.lock.DistributedLock;
 import kr.hhplus.be.server.order.domain.Order;
 import kr.hhplus.be.server.order.domain.OrderItem;
@@ -10,7 +12,10 @@ import kr.hhplus.be.server.order.domain.dto.request.OrderItemRequest;
 import kr.hhplus.be.server.order.domain.dto.request.OrderRequest;
 import kr.hhplus.be.server.order.domain.dto.response.OrderResponse;
 import kr.hhplus.be.server.payment.application.PaymentFacade;
+import kr.hhplus.be.server.product.application.ProductSalesRecorder;
 import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.RedisStockService;
+import kr.hhplus.be.server.product.application.StockHoldService;
 import kr.hhplus.be.server.product.domain.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * OrderFacade 주문 관련 작업의 흐름을 조정하는 역할
@@ -31,15 +38,22 @@ public class OrderFacade {
     private final OrderService orderService;
     private final ProductService productService;
     private final PaymentFacade paymentFacade;
+    private final RedisStockService redisStockService;
+    private final StockHoldService stockHoldService;
+    private final ProductSalesRecorder productSalesRecorder;
 
     /**
      * 주문 생성 프로세스
      * 1. 상품 재고 확인 및 감소
      * 2. 주문 생성
      * 3. 결제 처리
+     * 재고 동시성은 stock 도메인 전략으로 처리 (기본: Redis 분산 락)
      */
     @Transactional
-    @DistributedLock(key = "multi:#request.getProductIds()", waitTime = 3, leaseTime = 10)
+    @DistributedLock(key = "multi:#request.getProductIds()", waitTime = 3, leaseTime = 10,
+            domain = "stock", strategy = ConcurrencyStrategy.REDIS,
+            supports = {ConcurrencyStrategy.REDIS, ConcurrencyStrategy.LOCAL,
+                    ConcurrencyStrategy.DB_PESSIMISTIC, ConcurrencyStrategy.ATOMIC_SQL})
     public OrderResponse createOrder(OrderRequest request) {
         log.info("트랜잭션 시작 - OrderFacade.createOrder, 사용자: {}", request.getUserId());
 
@@ -65,10 +79,134 @@ public class OrderFacade {
         }
     }
 
+    /**
+     * 주문 생성 프로세스 (Redis 재고 카운터 적용)
+     * 재고 확인/차감을 Redis 스크립트 한 번으로 처리하므로 분산 락을 사용하지 않는다.
+     * 트랜잭션이 롤백되면 차감한 Redis 재고는 RedisStockService가 복구한다.
+     */
+    @Transactional
+    public OrderResponse createOrderWithRedisStock(OrderRequest request) {
+        log.info("트랜잭션 시작 - OrderFacade.createOrderWithRedisStock, 사용자: {}", request.getUserId());
+
+        Long userId = request.getUserId();
+
+        // 1. 주문 항목 준비 및 Redis 재고 일괄 차감
+        List<OrderItem> orderItems = createOrderItems(request.getOrderItems());
+        redisStockService.decreaseStocks(toQuantities(orderItems));
+
+        // 2. 주문 생성
+        Order order = orderService.createOrder(userId, orderItems);
+
+        // 3. 결제 처리 (실패 시 롤백으로 재고 복구)
+        processPayment(order, userId, request.getUsedAmount(), orderItems, () -> {});
+
+        log.info("트랜잭션 종료 - OrderFacade.createOrderWithRedisStock, 사용자: {}, 주문ID: {}", userId, order.getOrderId());
+
+        return new OrderResponse(order);
+    }
+
+    /**
+     * 주문 생성 프로세스 (조건부 UPDATE 재고 차감 적용)
+     * 모든 주문 항목의 재고를 한 번의 조건부 UPDATE로 차감하므로 분산 락을 사용하지 않는다.
+     * 재고 차감은 주문 트랜잭션에 포함되어 실패 시 함께 롤백된다.
+     */
+    @Transactional
+    public OrderResponse createOrderWithAtomicStock(OrderRequest request) {
+        log.info("트랜잭션 시작 - OrderFacade.createOrderWithAtomicStock, 사용자: {}", request.getUserId());
+
+        Long userId = request.getUserId();
+
+        // 1. 주문 항목 준비 및 재고 일괄 차감
+        List<OrderItem> orderItems = createOrderItems(request.getOrderItems());
+        productService.decreaseStocksWithConditionalUpdate(toQuantities(orderItems));
+
+        // 2. 주문 생성
+        Order order = orderService.createOrder(userId, orderItems);
+
+        // 3. 결제 처리 (실패 시 롤백으로 재고 복구)
+        processPayment(order, userId, request.getUsedAmount(), orderItems, () -> {});
+
+        log.info("트랜잭션 종료 - OrderFacade.createOrderWithAtomicStock, 사용자: {}, 주문ID: {}", userId, order.getOrderId());
+
+        return new OrderResponse(order);
+    }
+
+    /**
+     * 주문 생성 프로세스 (재고 차감 요청 결합 적용)
+     * 같은 상품에 동시에 들어온 재고 차감을 상품별 결합기가 합산해 처리하므로 분산 락을 사용하지 않는다.
+     * 주문 트랜잭션이 롤백되면 결합기에서 차감한 재고는 복구된다.
+     */
+    @Transactional
+    public OrderResponse createOrderWithCombinedStock(OrderRequest request) {
+        log.info("트랜잭션 시작 - OrderFacade.createOrderWithCombinedStock, 사용자: {}", request.getUserId());
+
+        Long userId = request.getUserId();
+
+        // 1. 주문 항목 준비 및 상품별 재고 차감
+        List<OrderItem> orderItems = createOrderItems(request.getOrderItems());
+        toQuantities(orderItems).forEach(productService::decreaseStockWithCombining);
+
+        // 2. 주문 생성
+        Order order = orderService.createOrder(userId, orderItems);
+
+        // 3. 결제 처리 (실패 시 롤백으로 재고 복구)
+        processPayment(order, userId, request.getUsedAmount(), orderItems, () -> {});
+
+        log.info("트랜잭션 종료 - OrderFacade.createOrderWithCombinedStock, 사용자: {}, 주문ID: {}", userId, order.getOrderId());
+
+        return new OrderResponse(order);
+    }
+
+    /**
+     * 주문 생성 프로세스 (재고 점유 적용)
+     * 주문 시 재고를 차감하지 않고 만료 시간이 있는 점유만 기록한 뒤 결제 대기(PENDING) 주문을 반환한다.
+     * 결제(POST /api/payments, payOrder)가 완료되면 같은 트랜잭션에서 주문을 PAID 로 변경하며 점유를 확정하고 재고를 차감한다.
+     * 만료 시간 안에 결제되지 않은 점유는 StockHoldSweeper 가 일괄 해제한다.
+     */
+    @Transactional
+    public OrderResponse createOrderWithStockHold(OrderRequest request) {
+        log.info("트랜잭션 시작 - OrderFacade.createOrderWithStockHold, 사용자: {}", request.getUserId());
+
+        Long userId = request.getUserId();
+
+        // 1. 주문 항목 준비 및 주문 생성
+        List<OrderItem> orderItems = createOrderItems(request.getOrderItems());
+        Order order = orderService.createOrder(userId, orderItems);
+
+        // 2. 재고 점유 (실패 시 롤백으로 점유 해제)
+        stockHoldService.hold(order.getOrderId(), toQuantities(orderItems));
+
+        log.info("트랜잭션 종료 - OrderFacade.createOrderWithStockHold, 사용자: {}, 주문ID: {}", userId, order.getOrderId());
+
+        return new OrderResponse(order);
+    }
+
     /**
      * 주문 항목을 준비하고 재고를 확인 및 감소시킵니다.
      */
     private List<OrderItem> prepareOrderItems(List<OrderItemRequest> itemRequests) {
+        // 락 없이 진입한 전략은 DB 에서 재고 차감
+        if (ConcurrencyContext.is(ConcurrencyStrategy.ATOMIC_SQL)) {
+            List<OrderItem> orderItems = createOrderItems(itemRequests);
+            productService.decreaseStocksWithConditionalUpdate(toQuantities(orderItems));
+            return orderItems;
+        }
+        if (ConcurrencyContext.is(ConcurrencyStrategy.DB_PESSIMISTIC)) {
+            // 상품을 먼저 읽으면 락 조회가 그 객체를 그대로 돌려주므로, 행 락을 먼저 잡고 잠근 상품으로 주문 항목 생성
+            Map<Long, Integer> quantities = new TreeMap<>();
+            for (OrderItemRequest itemRequest : itemRequests) {
+                quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Integer::sum);
+            }
+            Map<Long, Product> products = productService.decreaseStocksWithPessimisticLock(quantities);
+
+            List<OrderItem> orderItems = new ArrayList<>();
+            for (OrderItemRequest itemRequest : itemRequests) {
+                Product product = products.get(itemRequest.getProductId());
+                orderItems.add(OrderItem.createOrderItem(product, itemRequest.getQuantity(), itemRequest.getOrderId()));
+            }
+            return orderItems;
+        }
+
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (OrderItemRequest itemRequest : itemRequests) {
@@ -88,10 +226,40 @@ public class OrderFacade {
         return orderItems;
     }
 
+    /**
+     * 재고 차감 없이 주문 항목만 생성합니다.
+     */
+    private List<OrderItem> createOrderItems(List<OrderItemRequest> itemRequests) {
+        List<OrderItem> orderItems = new ArrayList<>();
+
+        for (OrderItemRequest itemRequest : itemRequests) {
+            Product product = productService.getProduct(itemRequest.getProductId());
+            orderItems.add(OrderItem.createOrderItem(product, itemRequest.getQuantity(), itemRequest.getOrderId()));
+        }
+
+        return orderItems;
+    }
+
+    /**
+     * 상품별 주문 수량을 합산합니다.
+     */
+    private Map<Long, Integer> toQuantities(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            quantities.merge(item.getProductId(), item.getOrderItemQty(), Integer::sum);
+        }
+        return quantities;
+    }
+
     /**
      * 결제를 처리합니다.
      */
     private void processPayment(Order order, Long userId, Integer usedPoints, List<OrderItem> orderItems) {
+        processPayment(order, userId, usedPoints, orderItems, () -> recoverInventory(orderItems));
+    }
+
+    private void processPayment(Order order, Long userId, Integer usedPoints, List<OrderItem> orderItems,
+                                Runnable inventoryRecovery) {
         try {
             // 결제 처리
             int points = usedPoints != null ? usedPoints : 0;
@@ -105,10 +273,13 @@ public class OrderFacade {
             paymentFacade.handlePaymentFailure(order.getOrderId(), userId, order.getTotalAmount());
 
             // 상품별 재고 복구 처리
-            recoverInventory(orderItems);
+            inventoryRecovery.run();
 
             throw new PaymentException("결제 처리 실패: " + e.getMessage());
         }
+
+        // 결제 완료된 주문을 커밋 후 일간 판매 집계에 반영
+        productSalesRecorder.recordAfterCommit(toQuantities(orderItems), order.getOrderedAt());
     }
 
     /**
@@ -122,6 +293,17 @@ public class OrderFacade {
         }
     }
 
+    /**
+     * 결제 대기 주문을 결제합니다.
+     * 결제 후 주문 상태를 PAID 로 변경하며 재고 점유 확정과 판매 집계 반영을 함께 처리한다.
+     * 점유가 만료되었으면 결제를 포함한 전체 트랜잭션이 롤백된다.
+     */
+    @Transactional
+    public void payOrder(Long orderId, Long userId, int amount, int usedPoints) {
+        paymentFacade.processPayment(orderId, userId, amount, usedPoints);
+        updateOrderStatus(orderId, OrderStatus.PAID);
+    }
+
     /**
      * 주문을 조회합니다.
      */
@@ -135,6 +317,30 @@ public class OrderFacade {
      */
     @Transactional
     public void updateOrderStatus(Long orderId, OrderStatus orderStatus) {
+        Order order = orderService.getOrder(orderId);
+        boolean wasSold = order.getOrderStatus().isSold();
+
+        // 판매 집계는 결제 완료 시점에만 시작 - 결제 없이 준비/배송 상태로 건너뛸 수 없음
+        if (!wasSold && orderStatus.isSold() && orderStatus != OrderStatus.PAID) {
+            throw new IllegalStateException("결제 완료되지 않은 주문은 " + orderStatus + " 상태로 변경할 수 없습니다. id=" + orderId);
+        }
         orderService.updateOrderStatus(orderId, orderStatus);
+
+        // 결제 완료/취소에 따라 커밋 후 일간 판매 집계 증감
+        if (wasSold != orderStatus.isSold()) {
+            Map<Long, Integer> quantities = toQuantities(orderService.getOrderItems(orderId));
+            if (orderStatus.isSold()) {
+                productSalesRecorder.recordAfterCommit(quantities, order.getOrderedAt());
+            } else {
+                productSalesRecorder.cancelAfterCommit(quantities, order.getOrderedAt());
+            }
+        }
+
+        // 재고 점유가 있는 주문은 결제 완료 시 확정, 취소 시 해제
+        if (orderStatus == OrderStatus.PAID) {
+            stockHoldService.commit(orderId);
+        } else if (orderStatus == OrderStatus.CANCELED) {
+            stockHoldService.release(orderId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -27,32 +27,33 @@ public class OrderService {
         return order;
     }
 
+    // 주문 항목 조회
+    public List<OrderItem> getOrderItems(Long orderId) {
+        return orderItemRepository.findByOrderId(orderId);
+    }
+
     // 주문 생성
+    // 총액을 먼저 계산해 주문을 한 번만 저장하고, 주문 항목은 일괄 저장해 커밋 시 배치 INSERT로 반영
     @Transactional
     public Order createOrder(Long userId, List<OrderItem> orderItems) {
-        // 주문 생성
+        // 주문 생성 및 총액 계산
         Order order = Order.createOrder(userId);
-        order = orderRepository.save(order);  // ID 생성을 위해 먼저 저장
-
-        // 주문 항목 처리 및 총액 계산
         int totalAmount = 0;
-
         for (OrderItem item : orderItems) {
-            // 주문 ID 설정
-            item.setOrderId(order.getOrderId());
-
-            // 주문 항목 저장
-            orderItemRepository.save(item);
-
-            // 총액 계산
             totalAmount += item.getOrderItemPrice() * item.getOrderItemQty();
         }
-
-        // 주문 총액 설정
         order.setTotalAmount(totalAmount);
 
-        // 업데이트된 주문 저장
-        return orderRepository.save(order);
+        // 주문 저장 (ID는 시퀀스 테이블에서 선할당되어 INSERT 없이 발급)
+        order = orderRepository.save(order);
+
+        // 주문 항목에 주문 ID 설정 후 일괄 저장
+        for (OrderItem item : orderItems) {
+            item.setOrderId(order.getOrderId());
+        }
+        orderItemRepository.saveAll(orderItems);
+
+        return order;
     }
 
     // 쿠폰 적용
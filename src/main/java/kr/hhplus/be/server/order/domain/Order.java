@@ -13,8 +13,12 @@ import java.util.List;
 @Getter @Setter
 public class Order {
 
+    // IDENTITY는 INSERT 배치를 막으므로 테이블 시퀀스에서 50개 단위로 ID를 선할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id_generator")
+    @TableGenerator(name = "orders_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "orders", allocationSize = 50)
     @Column(name = "order_id")
     private Long orderId;
 
@@ -6,5 +6,10 @@ public enum OrderStatus {
     PREPARING,   // 상품 준비 중
     SHIPPING,    // 배송 중
     DELIVERED,   // 배송 완료
-    CANCELED     // 주문 취소
-}
\ No newline at end of file
+    CANCELED;    // 주문 취소
+
+    // 판매 집계 대상 상태 (결제 완료 ~ 배송 완료)
+    public boolean isSold() {
+        return this == PAID || this == PREPARING || this == SHIPPING || this == DELIVERED;
+    }
+}
@@ -8,4 +8,6 @@ public interface OrderItemRepository {
     List<OrderItem> findByOrderId(Long orderId);
 
     void save(OrderItem item);
+
+    void saveAll(List<OrderItem> items);
 }
@@ -5,8 +5,10 @@ import kr.hhplus.be.server.order.application.OrderFacade;
 import kr.hhplus.be.server.order.domain.OrderStatus;
 import kr.hhplus.be.server.order.domain.dto.request.OrderRequest;
 import kr.hhplus.be.server.order.domain.dto.response.OrderResponse;
+import kr.hhplus.be.server.product.domain.StockMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,6 +20,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
     private final OrderFacade orderFacade;
 
+    @Value("${order.stock-mode:LOCK}")
+    private StockMode stockMode;
+
     /**
      * 주문 생성
      * POST /api/orders
@@ -28,7 +33,13 @@ public class OrderController {
         log.info("주문 생성 요청 - userId: {}, orderItems: {}",
                 request.getUserId(), request.getOrderItems().size());
 
-        OrderResponse orderResponse = orderFacade.createOrder(request);
+        OrderResponse orderResponse = switch (stockMode) {
+            case REDIS -> orderFacade.createOrderWithRedisStock(request);
+            case ATOMIC_SQL -> orderFacade.createOrderWithAtomicStock(request);
+            case HOLD -> orderFacade.createOrderWithStockHold(request);
+            case COMBINING -> orderFacade.createOrderWithCombinedStock(request);
+            default -> orderFacade.createOrder(request);
+        };
 
         log.info("주문 생성 완료 - orderId: {}, totalAmount: {}",
                 orderResponse.getOrderId(), orderResponse.getTotalAmount());
@@ -3,9 +3,12 @@ package kr.hhplus.be.server.payment.application;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.PaymentStatus;
 import kr.hhplus.be.server.payment.domain.dto.response.PaymentResponse;
+import kr.hhplus.be.server.user.application.PointLedgerService;
 import kr.hhplus.be.server.user.application.UserService;
+import kr.hhplus.be.server.user.domain.PointMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,13 +18,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentFacade {
     private final PaymentService paymentService;
     private final UserService userService;
+    private final PointLedgerService pointLedgerService;
+
+    @Value("${point.mode:ENTITY}")
+    private PointMode pointMode;
 
     // 결제 프로세스 처리
     @Transactional
     public void processPayment(Long orderId, Long userId, int totalAmount, int usedPoints) {
         // 포인트 차감 (있는 경우)
-        if (usedPoints > 0) {
-            userService.usePoint(userId, usedPoints);
+        if (usedPoints > 0 && pointMode == PointMode.LEDGER) {
+            pointLedgerService.usePoint(userId, usedPoints);
+        } else if (usedPoints > 0) {
+            // 조건부 UPDATE 한 번으로 차감 (비관적 락/분산 락 없음)
+            userService.usePointAtomically(userId, usedPoints);
         }
 
         // 결제 정보 저장
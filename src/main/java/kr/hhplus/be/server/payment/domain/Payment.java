@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payments_id_generator")
+    @TableGenerator(name = "payments_id_generator", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "payments", allocationSize = 50)
     @Column(name = "payment_id")
     private Long paymentId;
 
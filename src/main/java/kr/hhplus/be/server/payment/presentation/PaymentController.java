@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.payment.presentation;
 
+import kr.hhplus.be.server.order.application.OrderFacade;
 import kr.hhplus.be.server.order.domain.OrderStatus;
 import kr.hhplus.be.server.payment.application.PaymentFacade;
 import kr.hhplus.be.server.payment.domain.PaymentStatus;
@@ -16,9 +17,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PaymentController {
     private final PaymentFacade paymentFacade;
+    private final OrderFacade orderFacade;
 
     /**
-     * 결제 처리
+     * 결제 처리 - 결제 후 주문을 결제 완료로 변경하고 재고 점유를 확정
      * POST /api/payments
      */
     @PostMapping
@@ -27,7 +29,7 @@ public class PaymentController {
                 request.getOrderId(), request.getUserId(), request.getAmount(), request.getPointAmount());
 
         // 개별 파라미터로 전달 (Facade 패턴에 맞춤)
-        paymentFacade.processPayment(
+        orderFacade.payOrder(
                 request.getOrderId(),
                 request.getUserId(),
                 request.getAmount(),
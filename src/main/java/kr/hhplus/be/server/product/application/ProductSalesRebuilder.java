@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.product.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 판매 집계를 주문 이력으로 주기적으로 재생성해 증분 반영 중 누락/오차를 보정
+ * 기동 시에는 비어 있는 Redis 일간 랭킹을 판매 집계로 채워 콜드 스타트 직후 랭킹이 비지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRebuilder {
+    private final ProductSalesService productSalesService;
+
+    @Value("${product.sales.rebuild-days:7}")
+    private int rebuildDays;
+
+    @Value("${product.ranking.seed-days:7}")
+    private int seedDays;
+
+    @Scheduled(cron = "${product.sales.rebuild-cron:0 30 3 * * *}")
+    public void rebuildRecentSales() {
+        try {
+            productSalesService.rebuild(ProductSalesService.today().minusDays(rebuildDays));
+        } catch (Exception e) {
+            log.error("상품 판매 집계 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedRanking() {
+        try {
+            int seeded = productSalesService.seedRanking(seedDays);
+            log.info("판매 랭킹 초기화: 최근 {}일 중 {}일 반영", seedDays, seeded);
+        } catch (Exception e) {
+            log.error("판매 랭킹 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
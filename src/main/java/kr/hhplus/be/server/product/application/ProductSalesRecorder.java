@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.product.application;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 주문 트랜잭션 커밋 후 일간 판매 집계 반영
+ * 집계 행 UPSERT 를 주문 트랜잭션 밖의 전용 스레드에서 순차 처리해 주문 처리 중 집계 행 락 대기를 없앤다.
+ * 반영 실패/누락은 ProductSalesRebuilder 의 주기 재생성으로 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRecorder {
+    private final ProductSalesService productSalesService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-sales-recorder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 커밋 후 판매 반영
+    public void recordAfterCommit(Map<Long, Integer> quantities, LocalDateTime orderedAt) {
+        LocalDate salesDate = ProductSalesService.salesDateOf(orderedAt);
+        submitAfterCommit(() -> productSalesService.recordSales(quantities, salesDate));
+    }
+
+    // 커밋 후 판매 취소 반영
+    public void cancelAfterCommit(Map<Long, Integer> quantities, LocalDateTime orderedAt) {
+        LocalDate salesDate = ProductSalesService.salesDateOf(orderedAt);
+        submitAfterCommit(() -> productSalesService.cancelSales(quantities, salesDate));
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void submitAfterCommit(Runnable action) {
+        TransactionHooks.afterCommit(() -> executor.execute(() -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("판매 집계 반영 실패: {}", e.getMessage(), e);
+            }
+        }));
+    }
+}
@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.product.domain.ProductRank;
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductRankingRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 판매 집계 서비스
+ * 주문 결제 완료/취소 시 product_sales_daily 에 증분 반영하고, 인기 상품은 기간 내 집계 행만으로 조회한다.
+ * 커밋된 판매는 Redis 일간 랭킹에도 반영해 실시간 인기 상품 조회에 사용한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ProductSalesService {
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+    private final ProductRankingRepository productRankingRepository;
+
+    // 판매일 기준 시간대 - DB 에 UTC 로 저장된 ordered_at 의 DATE() 와 같은 날짜로 집계
+    public static final ZoneId SALES_ZONE = ZoneOffset.UTC;
+
+    // 주문 시각(JVM 시간대)을 판매일로 변환
+    public static LocalDate salesDateOf(LocalDateTime orderedAt) {
+        return orderedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(SALES_ZONE).toLocalDate();
+    }
+
+    // 판매일 기준 오늘
+    public static LocalDate today() {
+        return LocalDate.now(SALES_ZONE);
+    }
+
+    // 판매 반영 - 상품별 주문 건수 1, 수량 합계 증가
+    @Transactional
+    public void recordSales(Map<Long, Integer> quantities, LocalDate salesDate) {
+        // 상품 ID 순서로 반영 - 데드락 방지
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                productSalesDailyRepository.increase(productId, salesDate, 1, quantity));
+
+        increaseRankingAfterCommit(salesDate, quantities);
+    }
+
+    // 판매 취소 반영
+    @Transactional
+    public void cancelSales(Map<Long, Integer> quantities, LocalDate salesDate) {
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                productSalesDailyRepository.increase(productId, salesDate, -1, -quantity));
+
+        Map<Long, Integer> negated = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> negated.put(productId, -quantity));
+        increaseRankingAfterCommit(salesDate, negated);
+    }
+
+    // 오늘 포함 최근 days 일간 판매 수량 상위 상품 조회
+    public List<TopProductSales> getTopProducts(int days, int limit) {
+        return productSalesDailyRepository.findTopProducts(today().minusDays(days - 1), limit);
+    }
+
+    // 최근 days 일간 실시간 판매 랭킹 조회 (Redis)
+    public List<ProductRank> getTopRanks(int days, int limit) {
+        return productRankingRepository.findTopRanks(today(), days, limit).stream()
+                .filter(rank -> rank.totalQuantity() > 0)
+                .toList();
+    }
+
+    // 오늘 포함 최근 days 일간 집계로 비어 있는 일간 랭킹 채움 (Redis 초기화/유실 후 콜드 스타트 대비) - 채운 일수 반환
+    public int seedRanking(int days) {
+        Map<LocalDate, Map<Long, Integer>> dailyQuantities = new TreeMap<>();
+        for (ProductSalesDaily sales : productSalesDailyRepository.findFrom(today().minusDays(days - 1))) {
+            if (sales.getQuantity() > 0) {
+                dailyQuantities.computeIfAbsent(sales.getSalesDate(), date -> new TreeMap<>())
+                        .put(sales.getProductId(), sales.getQuantity());
+            }
+        }
+
+        int seeded = 0;
+        for (Map.Entry<LocalDate, Map<Long, Integer>> entry : dailyQuantities.entrySet()) {
+            if (productRankingRepository.seedScores(entry.getKey(), entry.getValue())) {
+                seeded++;
+            }
+        }
+        return seeded;
+    }
+
+    // from 이후 일간 집계를 주문 이력으로 재생성
+    @Transactional
+    public int rebuild(LocalDate from) {
+        int rows = productSalesDailyRepository.rebuildFrom(from);
+        log.info("상품 판매 집계 재생성: {} 이후 {}건", from, rows);
+        return rows;
+    }
+
+    // 랭킹은 트랜잭션에 포함되지 않으므로 커밋된 판매만 반영
+    private void increaseRankingAfterCommit(LocalDate salesDate, Map<Long, Integer> quantities) {
+        TransactionHooks.afterCommit(() -> {
+            try {
+                productRankingRepository.increaseScores(salesDate, quantities);
+            } catch (Exception e) {
+                log.error("판매 랭킹 반영 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
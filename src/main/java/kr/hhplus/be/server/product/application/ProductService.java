@@ -1,62 +1,196 @@
 package kr.hhplus.be.server.product.application;
 
+import kr.hhplus.be.server.common.cache.RefreshAheadCache;
 import kr.hhplus.be.server.common.exception.EntityNotFoundException;
 import kr.hhplus.be.server.common.exception.InsufficientStockException;
 import kr.hhplus.be.server.common.exception.StockRecoveryException;
 import kr.hhplus.be.server.common.lock.DistributedLock;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductRank;
+import kr.hhplus.be.server.product.domain.ProductSnapshot;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductCacheRepository;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
-import kr.hhplus.be.server.product.domain.repository.TopProductRepository;
-import kr.hhplus.be.server.product.domain.TopProductView;
 import kr.hhplus.be.server.product.domain.dto.response.ProductDetailResponse;
+import kr.hhplus.be.server.product.domain.dto.response.ProductPageResponse;
 import kr.hhplus.be.server.product.domain.dto.response.ProductResponse;
 import kr.hhplus.be.server.product.domain.dto.response.TopProductResponse;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
-    private final TopProductRepository topProductRepository;
+    private final ProductSalesService productSalesService;
+    private final ShardedStockService shardedStockService;
+    private final StockDecrementCombiner stockDecrementCombiner;
+    private final ProductCacheRepository productCacheRepository;
+    private final RefreshAheadCache refreshAheadCache;
 
-    private static final Logger log = LoggerFactory.getLogger(ProductService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int TOP_PRODUCT_DAYS = 3;
+    private static final int TOP_PRODUCT_LIMIT = 5;
+    private static final int MAX_RANKING_DAYS = 7;
+    private static final String TOP_PRODUCTS_CACHE = "topProducts:last3days";
+    private static final Duration TOP_PRODUCTS_CACHE_TTL = Duration.ofMinutes(30);
 
     // 상품 조회
     public Product getProduct(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+        return findProduct(productId);
     }
     
-    // 상품 목록 조회
-    public List<ProductResponse> getProducts(){
-        List<Product> products = productRepository.findAll();
-        return  products.stream()
-                .map(product -> new ProductResponse(product))
-                .collect(Collectors.toList());
+    // 상품 목록 페이지 조회 - product_id 커서 이후의 상품을 최대 MAX_PAGE_SIZE 개까지 조회
+    // 커서 이후 상품 ID 만 DB 에서 조회하고 상품 정보는 상품 캐시(L1 → Redis → DB)에서 조회
+    public ProductPageResponse getProductPage(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<Long> productIds = productRepository.findIdsAfter(cursor != null ? cursor : 0L, pageSize + 1);
+        boolean hasNext = productIds.size() > pageSize;
+
+        List<ProductResponse> responses = findProducts(productIds.stream().limit(pageSize).toList()).stream()
+                .map(this::toProductResponse)
+                .toList();
+        Long nextCursor = hasNext ? productIds.get(pageSize - 1) : null;
+        return new ProductPageResponse(responses, nextCursor, hasNext);
+    }
+
+    // 전체 상품 목록 스트리밍 - 결과를 한 행씩 읽어 바로 전달
+    public void streamProducts(Consumer<ProductResponse> consumer) {
+        // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 분할 재고 합계를 먼저 조회
+        Map<Long, Long> shardStockQtys = shardedStockService.getShardStockQtys();
+
+        try (Stream<Product> products = productRepository.streamAll()) {
+            products.forEach(product -> {
+                ProductResponse response = new ProductResponse(product);
+                response.setStockQty(product.getStockQty()
+                        + shardStockQtys.getOrDefault(product.getProductId(), 0L).intValue());
+                consumer.accept(response);
+            });
+        }
+    }
+
+    private ProductResponse toProductResponse(Product product) {
+        ProductResponse response = new ProductResponse(product);
+        response.setStockQty(getStockQty(product));
+        return response;
+    }
+
+    // 표시용 재고 - 캐시된 상품은 기본 재고만 가지므로 분할 재고 상품은 분할 카운터 합계를 더한다
+    private int getStockQty(Product product) {
+        if (product.isStockSharded()) {
+            return shardedStockService.getStockQty(product);
+        }
+        return product.getStockQty();
     }
 
     // 상품 상세 조회
     public ProductDetailResponse getProductById(Long productId){
-        Product product = productRepository.findById(productId)
+        Product product = findProduct(productId);
+        ProductDetailResponse response = new ProductDetailResponse(product);
+        response.setStockQty(getStockQty(product));
+        return response;
+    }
+
+    // 상품 캐시 조회 (L1 → Redis → DB)
+    private Product lockAndDecreaseStock(Long productId, int quantity) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
                 .orElseThrow(()-> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
-        return new ProductDetailResponse(product);
+        if (product.isStockSharded()) {
+            shardedStockService.decreaseStock(product, quantity);
+            return product;
+        }
+        product.decreaseStock(quantity);
+        productRepository.save(product);
+        return product;
+    }
+
+    private Product findProduct(Long productId) {
+        boolean cacheable = isCacheable();
+        if (cacheable) {
+            Optional<ProductSnapshot> cached = productCacheRepository.findById(productId);
+            if (cached.isPresent()) {
+                return cached.get().toProduct();
+            }
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+        if (cacheable) {
+            productCacheRepository.save(ProductSnapshot.from(product));
+        }
+        return product;
+    }
+
+    // 여러 상품 캐시 조회 - 캐시에 없는 상품만 DB 에서 한 번에 조회 (요청한 ID 순서 유지, 없는 상품은 제외)
+    private List<Product> findProducts(List<Long> productIds) {
+        boolean cacheable = isCacheable();
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            Optional<ProductSnapshot> cached = cacheable ? productCacheRepository.findById(productId) : Optional.empty();
+            if (cached.isPresent()) {
+                found.put(productId, cached.get().toProduct());
+            } else {
+                missedIds.add(productId);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            for (Product product : productRepository.findAllById(missedIds)) {
+                found.put(product.getProductId(), product);
+                if (cacheable) {
+                    productCacheRepository.save(ProductSnapshot.from(product));
+                }
+            }
+        }
+
+        return productIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 쓰기 트랜잭션 안에서는 커밋 전 변경 내용이 캐시에 들어가지 않도록 DB에서 직접 조회
+    private boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // 재고 분할 적용
+    @Transactional
+    public void enableStockSharding(Long productId, int shardCount) {
+        shardedStockService.enableSharding(productId, shardCount);
     }
 
     // 재고 확인
     public boolean checkStock(Long productId, int quantity){
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품이 없습니다. id=" + productId));
+        if (product.isStockSharded()) {
+            return shardedStockService.getStockQty(product) >= quantity;
+        }
         return product.getStockQty() >= quantity;
     }
 
@@ -66,6 +200,12 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
 
+        // 분할 재고 상품은 분할 카운터에서 차감
+        if (product.isStockSharded()) {
+            shardedStockService.decreaseStock(product, quantity);
+            return;
+        }
+
         // 재고 확인 및 감소를 하나의 락 안에서 처리
         if (product.getStockQty() < quantity) {
             throw new InsufficientStockException("재고가 부족합니다.");
@@ -78,10 +218,61 @@ public class ProductService {
     // 재고 감소 (비관적 락 적용)
     @Transactional
     public void decreaseStockWithPessimisticLock(Long productId, int quantity){
-        Product product = productRepository.findByIdWithPessimisticLock(productId)
-                .orElseThrow(()-> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
-        product.decreaseStock(quantity);
-        productRepository.save(product);
+        lockAndDecreaseStock(productId, quantity);
+    }
+
+    // 여러 상품 재고 감소 (비관적 락 적용) - 상품 ID 순으로 행 락을 잡아 교착을 막고, 잠근 상품을 반환
+    // 락 전에 읽은 상품은 락 조회가 같은 영속 객체(이전 값)를 돌려주므로, 주문 항목도 여기서 반환한 상품으로 만든다
+    @Transactional
+    public Map<Long, Product> decreaseStocksWithPessimisticLock(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new TreeMap<>();
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                products.put(productId, lockAndDecreaseStock(productId, quantity)));
+        return products;
+    }
+
+    // 재고 감소 (요청 결합 적용) - 같은 상품에 동시에 들어온 차감 요청을 합산해 한 번에 처리
+    @Transactional
+    public void decreaseStockWithCombining(Long productId, int quantity) {
+        if (stockDecrementCombiner.decrease(productId, quantity) == StockDecrementCombiner.Outcome.SHARDED) {
+            shardedStockService.decreaseStock(getProduct(productId), quantity);
+        }
+    }
+
+    // 재고 감소 (조건부 UPDATE 적용) - 재고가 충분할 때만 차감되며, 반영된 행 수로 성공 여부 판단
+    @Transactional
+    public void decreaseStockWithConditionalUpdate(Long productId, int quantity) {
+        if (productRepository.decreaseStockIfEnough(productId, quantity) > 0) {
+            return;
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+        if (!product.isStockSharded()) {
+            throw new InsufficientStockException("재고가 부족합니다.");
+        }
+        shardedStockService.decreaseStock(product, quantity);
+    }
+
+    // 여러 상품 재고 일괄 감소 (조건부 UPDATE 적용) - 한 번의 UPDATE 문으로 처리, 하나라도 부족하면 전체 롤백
+    @Transactional
+    public void decreaseStocksWithConditionalUpdate(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        // 분할 재고 상품은 분할 카운터에서 차감 (주문 트랜잭션 내에서는 영속성 컨텍스트에서 조회됨)
+        List<Product> shardedProducts = sortedQuantities.keySet().stream()
+                .map(productRepository::findById)
+                .flatMap(Optional::stream)
+                .filter(Product::isStockSharded)
+                .toList();
+        for (Product product : shardedProducts) {
+            shardedStockService.decreaseStock(product, sortedQuantities.remove(product.getProductId()));
+        }
+
+        int updated = productRepository.decreaseStocksIfEnough(sortedQuantities);
+        if (updated != sortedQuantities.size()) {
+            throw new InsufficientStockException("재고가 부족합니다.");
+        }
     }
 
     // 재고 복구
@@ -96,6 +287,10 @@ public class ProductService {
             try {
                 productRepository.findById(item.getProductId())
                         .ifPresent(product -> {
+                            if (product.isStockSharded()) {
+                                shardedStockService.increaseStock(product, item.getOrderItemQty());
+                                return;
+                            }
                             product.increaseStock(item.getOrderItemQty());
                             productRepository.save(product);
                         });
@@ -120,19 +315,64 @@ public class ProductService {
             }
         }
     }
-    // 최근 3일간 가장 많이 팔린 상위 5개 상품 조회
+    // 최근 3일간 가장 많이 팔린 상위 5개 상품 조회 (일간 판매 집계 기준)
     public List<TopProductResponse> getTopSellingProducts() {
-        List<TopProductView> topProducts = topProductRepository.findAll();
+        List<TopProductSales> topProducts = productSalesService.getTopProducts(TOP_PRODUCT_DAYS, TOP_PRODUCT_LIMIT);
         return topProducts.stream()
                 .map(TopProductResponse::from)
                 .collect(Collectors.toList());
     }
-    // 최근 3일간 가장 많이 팔린 상위 5개 상품 조회 － 캐시 적용
-    @Cacheable(value = "topProducts", key = "'last3days'")
+    // 최근 days 일간 가장 많이 팔린 상위 limit 개 상품 조회 - Redis 실시간 랭킹, 상품 정보는 상품 캐시에서 조회
+    public List<TopProductResponse> getTopSellingProducts(int days, int limit) {
+        if (days < 1 || days > MAX_RANKING_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일부터 " + MAX_RANKING_DAYS + "일까지 가능합니다.");
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<ProductRank> ranks;
+        try {
+            ranks = productSalesService.getTopRanks(days, size);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 일간 판매 집계로 대체
+            log.warn("실시간 판매 랭킹 조회 실패, 판매 집계로 조회합니다: {}", e.getMessage());
+            return productSalesService.getTopProducts(days, size).stream()
+                    .map(TopProductResponse::from)
+                    .collect(Collectors.toList());
+        }
+
+        List<TopProductResponse> topProducts = new ArrayList<>(ranks.size());
+        for (ProductRank rank : ranks) {
+            try {
+                Product product = findProduct(rank.productId());
+                topProducts.add(TopProductResponse.builder()
+                        .productId(product.getProductId())
+                        .productName(product.getProductName())
+                        .productPrice(product.getProductPrice())
+                        .stockQty(getStockQty(product))
+                        .totalQuantity(rank.totalQuantity())
+                        .build());
+            } catch (EntityNotFoundException e) {
+                log.debug("랭킹에 포함된 상품이 존재하지 않습니다. id={}", rank.productId());
+            }
+        }
+        return topProducts;
+    }
+
+    // 최근 3일간 가장 많이 팔린 상위 5개 상품 조회 － 캐시 적용 (만료 전 백그라운드 갱신)
     public List<TopProductResponse> getTopSellingProductsWithCache() {
-        List<TopProductView> topProducts = topProductRepository.findAll();
+        List<TopProductSales> topProducts = refreshAheadCache.get(TOP_PRODUCTS_CACHE, TOP_PRODUCTS_CACHE_TTL, this::loadTopProducts);
         return topProducts.stream()
                 .map(TopProductResponse::from)
                 .collect(Collectors.toList());
     }
+
+    // 인기 상품 캐시 갱신
+    public void refreshTopSellingProductsCache() {
+        refreshAheadCache.refresh(TOP_PRODUCTS_CACHE, TOP_PRODUCTS_CACHE_TTL, this::loadTopProducts);
+    }
+
+    // 캐시 값은 Redis JSON 역직렬화가 가능하도록 ArrayList 로 보관
+    private List<TopProductSales> loadTopProducts() {
+        return new ArrayList<>(productSalesService.getTopProducts(TOP_PRODUCT_DAYS, TOP_PRODUCT_LIMIT));
+    }
 }
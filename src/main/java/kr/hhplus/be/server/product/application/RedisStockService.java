@@ -0,0 +1,143 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockDeltaBatch;
+import kr.hhplus.be.server.product.domain.StockDeltaFlush;
+import kr.hhplus.be.server.product.domain.StockDeltaState;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockCacheRepository;
+import kr.hhplus.be.server.product.domain.repository.StockDeltaFlushRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Redis 재고 카운터 기반 재고 차감 서비스
+ * 재고 확인/차감은 Redis 스크립트 한 번으로 처리하고, DB 재고는 StockDeltaFlusher가 지연 반영한다.
+ * 변화량은 묶음 단위로 반영하며, 반영 기록(stock_delta_flushes)과 같은 트랜잭션에 커밋된 뒤에만 Redis 에서 비운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisStockService {
+    private final StockCacheRepository stockCacheRepository;
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final StockDeltaFlushRepository stockDeltaFlushRepository;
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+
+    // 재고 조회 (DB 미반영분 포함)
+    @Transactional
+    public int getStock(Long productId) {
+        return stockCacheRepository.getStock(productId)
+                .orElseGet(() -> loadStock(productId));
+    }
+
+    // 여러 상품 재고 일괄 차감 - 하나라도 부족하면 전체 실패
+    @Transactional
+    public void decreaseStocks(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        StockDecreaseResult result = stockCacheRepository.decreaseAll(sortedQuantities);
+
+        // 카운터가 없는 상품은 DB 재고로 초기화 후 재시도
+        for (int i = 0; i < sortedQuantities.size() && result.status() == StockDecreaseResult.Status.NOT_LOADED; i++) {
+            loadStock(result.productId());
+            result = stockCacheRepository.decreaseAll(sortedQuantities);
+        }
+
+        if (!result.isSuccess()) {
+            throw new InsufficientStockException("재고가 부족합니다. id=" + result.productId());
+        }
+
+        // 트랜잭션 롤백 시 차감한 재고 복구
+        TransactionHooks.afterRollback(() -> stockCacheRepository.increaseAll(sortedQuantities));
+    }
+
+    // 재고 복구
+    public void recoverStocks(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            quantities.merge(item.getProductId(), item.getOrderItemQty(), Integer::sum);
+        }
+        stockCacheRepository.increaseAll(quantities);
+    }
+
+    public boolean hasPendingDeltas() {
+        return stockCacheRepository.hasPendingDeltas();
+    }
+
+    // Redis에 쌓인 재고 변화량을 DB에 반영
+    @Transactional
+    public int flushStockDeltas() {
+        Optional<StockDeltaBatch> claimed = stockCacheRepository.claimDeltas(UUID.randomUUID().toString());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        StockDeltaBatch batch = claimed.get();
+
+        // 묶음은 커밋된 뒤에만 비움 - 커밋 전에 실패/중단되면 다음 주기에 같은 묶음을 다시 반영
+        TransactionHooks.afterCommit(() -> stockCacheRepository.completeDeltas(batch.batchId()));
+
+        // 커밋 후 묶음을 비우기 전에 중단된 경우 - 이미 반영되었으므로 비우기만 함
+        if (stockDeltaFlushRepository.isApplied(batch.batchId())) {
+            log.info("이미 반영된 재고 변화량 묶음: {}", batch.batchId());
+            return 0;
+        }
+
+        batch.deltas().forEach((productId, delta) -> {
+            if (productRepository.applyStockDelta(productId, delta) == 0) {
+                log.error("재고 변화량 반영 불가 (상품 없음 또는 재고 음수): 상품 ID={}, 변화량={}", productId, delta);
+            }
+        });
+
+        // 반영 기록은 마지막에 저장 - 같은 묶음을 동시에 반영한 다른 서버의 트랜잭션은 기본 키 충돌로 롤백됨
+        stockDeltaFlushRepository.save(StockDeltaFlush.create(batch.batchId()));
+        log.debug("재고 변화량 DB 반영 완료: {}건", batch.deltas().size());
+        return batch.deltas().size();
+    }
+
+    // 보관 기간이 지난 변화량 반영 기록 삭제
+    @Transactional
+    public int deleteFlushRecordsBefore(LocalDateTime before) {
+        return stockDeltaFlushRepository.deleteFlushedBefore(before);
+    }
+
+    /**
+     * DB 재고로 재고 카운터 초기화
+     * DB 재고는 잠금 읽기로 최신 커밋 기준으로 읽는다. 반영 중인 묶음이 이 상품을 아직 갱신하지 않았다면
+     * 이 트랜잭션이 끝날 때까지 커밋할 수 없으므로, 반영 기록 유무로 DB 재고에 묶음이 포함되었는지 판단할 수 있다.
+     * 조회 도중 묶음을 새로 확보하거나 비우면 초기화가 거절되어 다시 조회한다.
+     */
+    private int loadStock(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            StockDeltaState state = stockCacheRepository.getDeltaState();
+            int baseStockQty = productRepository.findStockQtyWithSharedLock(productId)
+                    .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+            boolean includeFlushing = state.flushingBatchId() != null
+                    && !stockDeltaFlushRepository.isApplied(state.flushingBatchId());
+            int stockQty = baseStockQty + shardedStockService.getShardStockQty(product);
+
+            if (stockCacheRepository.initialize(productId, stockQty, state, includeFlushing)) {
+                return stockCacheRepository.getStock(productId).orElse(stockQty);
+            }
+        }
+        throw new IllegalStateException("재고 카운터를 초기화하지 못했습니다. id=" + productId);
+    }
+}
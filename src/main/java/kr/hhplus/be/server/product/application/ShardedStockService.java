@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductStockShard;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분할 재고 서비스
+ * 분할된 상품의 재고는 products.stock_qty + product_stock_shards.stock_qty 합계이다.
+ * 차감은 임의의 카운터 하나에 조건부 UPDATE로 수행하여 한 행에 경합이 몰리지 않도록 한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ShardedStockService {
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+
+    // 재고 분할 적용 - 현재 재고를 shardCount 개의 카운터로 나눈다
+    @Transactional
+    public void enableSharding(Long productId, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("분할 수는 0보다 커야 합니다.");
+        }
+
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+        if (product.isStockSharded()) {
+            throw new IllegalStateException("이미 재고가 분할된 상품입니다. id=" + productId);
+        }
+
+        int stockQty = Math.max(product.getStockQty(), 0);
+        List<ProductStockShard> shards = new ArrayList<>();
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            int shardStock = stockQty / shardCount + (shardNo < stockQty % shardCount ? 1 : 0);
+            shards.add(ProductStockShard.create(productId, shardNo, shardStock));
+        }
+        productStockShardRepository.saveAll(shards);
+
+        product.setStockQty(product.getStockQty() - stockQty);
+        product.setStockShardCount(shardCount);
+        productRepository.save(product);
+
+        log.info("재고 분할 적용: 상품 ID={}, 분할 수={}, 재고={}", productId, shardCount, stockQty);
+    }
+
+    // 현재 재고 조회 (분할 재고 합산)
+    public int getStockQty(Product product) {
+        return product.getStockQty() + getShardStockQty(product);
+    }
+
+    // 분할 카운터 재고 합계 (분할되지 않은 상품은 0)
+    public int getShardStockQty(Product product) {
+        if (!product.isStockSharded()) {
+            return 0;
+        }
+        return (int) productStockShardRepository.sumStockQty(product.getProductId());
+    }
+
+    // 상품별 분할 재고 합계 조회 - 목록 스트리밍 전에 한 번에 조회
+    public Map<Long, Long> getShardStockQtys() {
+        return productStockShardRepository.sumStockQtyByProductId();
+    }
+
+    // 분할 재고 차감 - 임의의 카운터부터 시도하고, 부족하면 다음 카운터로 넘어간다
+    @Transactional
+    public void decreaseStock(Product product, int quantity) {
+        Long productId = product.getProductId();
+        int shardCount = product.getStockShardCount();
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            int shardNo = (start + i) % shardCount;
+            if (productStockShardRepository.decreaseStockIfEnough(productId, shardNo, quantity) > 0) {
+                return;
+            }
+        }
+
+        // 하나의 카운터로 충당할 수 없으면 모든 카운터를 잠그고 나누어 차감 (부족분은 기본 재고에서 차감)
+        List<ProductStockShard> shards = productStockShardRepository.findAllByProductIdWithLock(productId);
+        int fromShards = Math.min(shards.stream().mapToInt(ProductStockShard::getStockQty).sum(), quantity);
+        int fromBase = quantity - fromShards;
+        if (fromBase > 0 && productRepository.decreaseStockIfEnough(productId, fromBase) == 0) {
+            throw new InsufficientStockException("재고가 부족합니다.");
+        }
+
+        int remaining = fromShards;
+        for (ProductStockShard shard : shards) {
+            int taken = Math.min(shard.getStockQty(), remaining);
+            if (taken > 0) {
+                productStockShardRepository.decreaseStockIfEnough(productId, shard.getShardNo(), taken);
+                remaining -= taken;
+            }
+        }
+    }
+
+    // 분할 재고 복구 - 임의의 카운터에 더한다
+    @Transactional
+    public void increaseStock(Product product, int quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShardCount());
+        productStockShardRepository.increaseStock(product.getProductId(), shardNo, quantity);
+    }
+}
@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.product.domain.repository.StockCombineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품별 재고 차감 요청 결합기 (flat combining)
+ * 같은 상품에 동시에 들어온 차감 요청을 큐에 모은 뒤, 먼저 결합 권한을 얻은 요청 스레드가
+ * 짧은 대기 후 쌓인 요청을 한 번의 트랜잭션으로 합산 차감한다.
+ * 합산 수량이 부족하면 도착 순서대로 가능한 요청부터 재고를 배정하고, 각 요청은 자신의 결과를 받는다.
+ * 결합 차감은 호출자 트랜잭션과 별도로 커밋되므로 호출자 트랜잭션이 롤백되면 차감한 재고를 복구한다.
+ * 결합 차감은 주문 커넥션 풀과 분리된 예약 커넥션에서 실행된다 (StockCombineRepository) - 대기 중인 주문 스레드가
+ * 주문 커넥션을 모두 쥐고 있어도 결합 차감이 커넥션을 얻을 수 있어야 하기 때문.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockDecrementCombiner {
+    private static final long WAIT_SLICE_MS = 10;
+
+    private final StockCombineRepository stockCombineRepository;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    @Value("${product.stock.combine.window-ms:2}")
+    private long windowMs;
+
+    @Value("${product.stock.combine.max-batch-size:100}")
+    private int maxBatchSize;
+
+    public enum Outcome {
+        GRANTED,      // 재고 차감 완료
+        INSUFFICIENT, // 재고 부족
+        SHARDED       // 분할 재고 상품 - 결합 대상이 아니므로 호출자가 직접 차감
+    }
+
+    /**
+     * 재고 차감 요청 - 결합 처리 결과가 나올 때까지 대기
+     * 재고가 부족하면 InsufficientStockException 발생
+     */
+    public Outcome decrease(Long productId, int quantity) {
+        Slot slot = slots.computeIfAbsent(productId, id -> new Slot());
+        Request request = new Request(quantity);
+        slot.queue.add(request);
+
+        Outcome outcome = await(slot, productId, request);
+        if (outcome == Outcome.INSUFFICIENT) {
+            throw new InsufficientStockException("재고가 부족합니다. id=" + productId);
+        }
+        if (outcome == Outcome.GRANTED) {
+            // 호출자 트랜잭션 롤백 시 결합 트랜잭션에서 차감한 재고 복구
+            TransactionHooks.afterRollback(() -> restore(productId, quantity));
+        }
+        return outcome;
+    }
+
+    private Outcome await(Slot slot, Long productId, Request request) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                // 결합 권한을 얻으면 직접 쌓인 요청을 처리하고, 아니면 결합 결과를 기다림
+                if (slot.combining.compareAndSet(false, true)) {
+                    try {
+                        combine(slot, productId);
+                    } finally {
+                        slot.combining.set(false);
+                    }
+                }
+                try {
+                    return request.result.get(WAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // 결합 스레드가 요청을 가져가기 전에 끝났을 수 있으므로 다시 결합 시도
+                } catch (InterruptedException e) {
+                    // 이미 큐에 들어간 요청은 처리되어야 하므로 결과를 받을 때까지 대기
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void combine(Slot slot, Long productId) {
+        if (slot.queue.isEmpty()) {
+            return;
+        }
+        pauseForWindow();
+
+        List<Request> batch = new ArrayList<>();
+        Request request;
+        while (batch.size() < maxBatchSize && (request = slot.queue.poll()) != null) {
+            batch.add(request);
+        }
+
+        try {
+            List<Outcome> outcomes = apply(productId, batch);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(outcomes.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("재고 결합 차감 실패 - productId: {}, 요청 수: {}", productId, batch.size(), e);
+            batch.forEach(r -> r.result.completeExceptionally(e));
+        }
+    }
+
+    // 결합된 요청을 한 번에 차감
+    private List<Outcome> apply(Long productId, List<Request> batch) {
+        int totalQuantity = batch.stream().mapToInt(r -> r.quantity).sum();
+
+        // 합산 수량이 충분하면 조건부 UPDATE 한 번으로 처리
+        if (stockCombineRepository.decreaseStockIfEnough(productId, totalQuantity)) {
+            return batch.stream().map(r -> Outcome.GRANTED).toList();
+        }
+
+        // 합산 수량이 부족하면 상품 행을 잠근 상태에서 도착 순서대로 배정
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        boolean decreased = stockCombineRepository.decreaseAllocatedStock(productId, stockQty -> {
+            outcomes.clear();
+            int remaining = stockQty;
+            for (Request request : batch) {
+                if (request.quantity <= remaining) {
+                    remaining -= request.quantity;
+                    outcomes.add(Outcome.GRANTED);
+                } else {
+                    outcomes.add(Outcome.INSUFFICIENT);
+                }
+            }
+            return stockQty - remaining;
+        });
+        if (!decreased) {
+            return batch.stream().map(r -> Outcome.SHARDED).toList();
+        }
+        return outcomes;
+    }
+
+    private void restore(Long productId, int quantity) {
+        try {
+            stockCombineRepository.increaseStock(productId, quantity);
+        } catch (Exception e) {
+            log.error("결합 차감 재고 복구 실패 - productId: {}, 수량: {}", productId, quantity, e);
+        }
+    }
+
+    private void pauseForWindow() {
+        if (windowMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(windowMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Slot {
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean combining = new AtomicBoolean(false);
+    }
+
+    private static class Request {
+        private final int quantity;
+        private final CompletableFuture<Outcome> result = new CompletableFuture<>();
+
+        private Request(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.product.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 재고 카운터의 변화량을 products.stock_qty에 주기적으로 반영 (write-behind)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockDeltaFlusher {
+    private final RedisStockService redisStockService;
+
+    // 반영 기록은 묶음을 비우기 전에 중단된 경우에만 필요하므로 짧게 보관
+    private static final int FLUSH_RECORD_RETENTION_HOURS = 24;
+
+    @Scheduled(fixedDelayString = "${product.stock.redis.flush-interval-ms:1000}")
+    public void flush() {
+        if (!redisStockService.hasPendingDeltas()) {
+            return;
+        }
+        try {
+            redisStockService.flushStockDeltas();
+        } catch (Exception e) {
+            log.error("재고 변화량 DB 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 보관 기간이 지난 변화량 반영 기록 삭제
+    @Scheduled(cron = "${product.stock.redis.flush-record-purge-cron:0 0 * * * *}")
+    public void purgeFlushRecords() {
+        try {
+            int deleted = redisStockService.deleteFlushRecordsBefore(LocalDateTime.now().minusHours(FLUSH_RECORD_RETENTION_HOURS));
+            log.debug("재고 변화량 반영 기록 삭제: {}건", deleted);
+        } catch (Exception e) {
+            log.error("재고 변화량 반영 기록 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockHold;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockHoldCacheRepository;
+import kr.hhplus.be.server.product.domain.repository.StockHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 점유 서비스
+ * 주문 시 재고를 차감하지 않고 만료 시간이 있는 점유 기록만 남긴다 (주문 트랜잭션 커밋 후 다른 주문에 점유 수량으로 보임).
+ * 결제 완료(주문 상태 PAID) 시 실제 재고를 차감하며 확정하고, 만료된 점유는 StockHoldSweeper가 일괄 해제한다.
+ * 점유 가능 재고(재고 - 점유 수량)는 Redis 인덱스에서 조회하며, StockHoldSweeper 가 주기적으로 DB 점유 기록으로 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockHoldService {
+    private final StockHoldRepository stockHoldRepository;
+    private final StockHoldCacheRepository stockHoldCacheRepository;
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final ShardedStockService shardedStockService;
+
+    @Value("${product.stock.hold.ttl-seconds:600}")
+    private long holdTtlSeconds;
+
+    // 주문 트랜잭션이 이 시간 안에 끝난다고 보고, 이보다 오래된 DB 기록 없는 점유는 롤백된 점유로 제거
+    private static final long RECONCILE_GRACE_SECONDS = 60;
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+
+    // 점유 가능 재고 확인
+    public boolean checkAvailableStock(Long productId, int quantity) {
+        int available = stockHoldCacheRepository.getAvailable(productId)
+                .orElseGet(() -> {
+                    loadStock(productId);
+                    return stockHoldCacheRepository.getAvailable(productId).orElse(0);
+                });
+        return available >= quantity;
+    }
+
+    // 주문 재고 점유 - 하나라도 부족하면 전체 실패
+    @Transactional
+    public List<StockHold> hold(Long orderId, Map<Long, Integer> quantities) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdTtlSeconds);
+        List<StockHold> holds = new TreeMap<>(quantities).entrySet().stream()
+                .map(entry -> StockHold.create(orderId, entry.getKey(), entry.getValue(), expiresAt))
+                .toList();
+        StockDecreaseResult result = stockHoldCacheRepository.holdAll(holds);
+
+        // 보유 재고 카운터가 없는 상품은 DB 재고로 초기화 후 재시도
+        for (int i = 0; i < holds.size() && result.status() == StockDecreaseResult.Status.NOT_LOADED; i++) {
+            loadStock(result.productId());
+            result = stockHoldCacheRepository.holdAll(holds);
+        }
+
+        if (!result.isSuccess()) {
+            throw new InsufficientStockException("재고가 부족합니다. id=" + result.productId());
+        }
+
+        // 트랜잭션 롤백 시 점유 기록 제거
+        TransactionHooks.afterRollback(() -> stockHoldCacheRepository.releaseAll(holds));
+
+        return stockHoldRepository.saveAll(holds);
+    }
+
+    // 점유 확정 - 실제 재고를 차감 (점유 기록이 없거나 이미 확정된 주문은 무시)
+    @Transactional
+    public void commit(Long orderId) {
+        List<StockHold> holds = stockHoldRepository.findByOrderIdWithLock(orderId);
+        LocalDateTime now = LocalDateTime.now();
+        if (holds.stream().anyMatch(hold -> hold.isExpired(now))) {
+            throw new InsufficientStockException("재고 점유가 만료되었습니다. orderId=" + orderId);
+        }
+
+        List<StockHold> heldHolds = holds.stream()
+                .filter(StockHold::isHeld)
+                .toList();
+        if (heldHolds.isEmpty()) {
+            return;
+        }
+
+        // 확정 상태는 재고 UPDATE 직전 flush 로 함께 반영
+        heldHolds.forEach(StockHold::commit);
+        productService.decreaseStocksWithConditionalUpdate(toQuantities(heldHolds));
+
+        TransactionHooks.afterCommit(() -> stockHoldCacheRepository.commitAll(heldHolds));
+    }
+
+    // 주문 점유 해제
+    @Transactional
+    public void release(Long orderId) {
+        List<StockHold> holds = stockHoldRepository.findByOrderIdWithLock(orderId).stream()
+                .filter(StockHold::isHeld)
+                .toList();
+        releaseHolds(holds);
+    }
+
+    // 만료된 점유 일괄 해제 - 해제한 건수 반환
+    @Transactional
+    public int releaseExpiredHolds(int limit) {
+        List<StockHold> holds = stockHoldRepository.findExpiredHoldsWithLock(LocalDateTime.now(), limit);
+        releaseHolds(holds);
+        if (!holds.isEmpty()) {
+            log.info("만료된 재고 점유 해제: {}건", holds.size());
+        }
+        return holds.size();
+    }
+
+    /**
+     * Redis 점유 인덱스를 DB 점유 기록으로 보정 - 보정한 상품 수 반환
+     * 상품별 Redis 점유 기록을 먼저 읽고 DB 를 조회하므로, 그 사이 확정/해제되어 지워진 점유를 다시 기록하지 않는다.
+     * 각 조회가 별도 트랜잭션으로 최신 커밋을 읽도록 트랜잭션 없이 실행한다.
+     */
+    public int reconcileCache() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> productIds = stockHoldRepository.findProductIdsWithUnexpiredHolds(now);
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Set<Long>> cachedOrderIds = new TreeMap<>();
+        for (Long productId : productIds) {
+            cachedOrderIds.put(productId, stockHoldCacheRepository.getHeldOrderIds(productId));
+        }
+
+        Map<Long, List<StockHold>> heldHolds = stockHoldRepository.findUnexpiredHeldHolds(now).stream()
+                .collect(Collectors.groupingBy(StockHold::getProductId));
+        LocalDateTime orphanExpiresBefore = LocalDateTime.now()
+                .minusSeconds(RECONCILE_GRACE_SECONDS)
+                .plusSeconds(holdTtlSeconds);
+
+        int removed = 0;
+        for (Map.Entry<Long, Set<Long>> entry : cachedOrderIds.entrySet()) {
+            List<StockHold> productHolds = heldHolds.getOrDefault(entry.getKey(), List.of());
+            List<StockHold> missingHolds = productHolds.stream()
+                    .filter(hold -> !entry.getValue().contains(hold.getOrderId()))
+                    .toList();
+            removed += stockHoldCacheRepository.reconcile(entry.getKey(), productHolds, missingHolds, orphanExpiresBefore);
+        }
+        if (removed > 0) {
+            log.warn("DB 기록과 맞지 않는 재고 점유 제거: {}건", removed);
+        }
+        return cachedOrderIds.size();
+    }
+
+    private void releaseHolds(List<StockHold> holds) {
+        if (holds.isEmpty()) {
+            return;
+        }
+        holds.forEach(StockHold::release);
+
+        TransactionHooks.afterCommit(() -> stockHoldCacheRepository.releaseAll(holds));
+    }
+
+    private Map<Long, Integer> toQuantities(List<StockHold> holds) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockHold hold : holds) {
+            quantities.merge(hold.getProductId(), hold.getHoldQty(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // 최신 커밋 기준 DB 재고로 보유 재고 카운터 적재 - 조회 도중 점유가 확정되면 다시 조회
+    private void loadStock(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = stockHoldCacheRepository.getOnHandVersion(productId);
+            int stockQty = productRepository.findStockQtyWithSharedLock(productId)
+                    .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId))
+                    + shardedStockService.getShardStockQty(product);
+            if (stockHoldCacheRepository.initialize(productId, stockQty, version)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("보유 재고 카운터를 초기화하지 못했습니다. id=" + productId);
+    }
+}
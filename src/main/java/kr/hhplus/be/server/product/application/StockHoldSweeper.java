@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.product.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 점유를 주기적으로 일괄 해제하고, Redis 점유 인덱스를 DB 점유 기록으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldSweeper {
+    private final StockHoldService stockHoldService;
+
+    @Value("${product.stock.hold.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.stock.hold.sweep-interval-ms:5000}")
+    public void sweep() {
+        try {
+            // 배치 크기만큼 가득 찼다면 남은 만료 건이 있을 수 있으므로 계속 처리
+            while (stockHoldService.releaseExpiredHolds(batchSize) == batchSize) {
+                log.debug("만료된 재고 점유 추가 해제 진행");
+            }
+        } catch (Exception e) {
+            log.error("만료된 재고 점유 해제 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.stock.hold.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            stockHoldService.reconcileCache();
+        } catch (Exception e) {
+            log.error("재고 점유 인덱스 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -27,6 +27,10 @@ public class Product {
     @Column(name = "stock_qty", nullable = false)
     private Integer stockQty;
 
+    // 재고 분할 수 (0 또는 null 이면 분할하지 않음)
+    @Column(name = "stock_shard_count")
+    private Integer stockShardCount;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -43,4 +47,9 @@ public class Product {
         this.stockQty += quantity;
     }
 
+    // 재고 분할 여부
+    public boolean isStockSharded() {
+        return stockShardCount != null && stockShardCount > 0;
+    }
+
 }
\ No newline at end of file
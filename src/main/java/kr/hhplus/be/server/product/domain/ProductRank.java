@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * 실시간 판매 랭킹 항목 (기간 내 판매 수량 합계)
+ */
+public record ProductRank(Long productId, long totalQuantity) {
+}
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일간 판매 집계
+ * 결제 완료/취소 시 증분 반영하며, 인기 상품 조회는 기간 내 집계 행만 합산한다.
+ */
+@Entity
+@Table(name = "product_sales_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_sales_daily_product_date", columnNames = {"product_id", "sales_date"}),
+        indexes = @Index(name = "idx_product_sales_daily_sales_date", columnList = "sales_date, product_id"))
+@Getter @Setter
+@NoArgsConstructor
+public class ProductSalesDaily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sales_daily_id")
+    private Long salesDailyId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    public static ProductSalesDaily create(Long productId, LocalDate salesDate, int orderCount, int quantity) {
+        ProductSalesDaily sales = new ProductSalesDaily();
+        sales.setProductId(productId);
+        sales.setSalesDate(salesDate);
+        sales.setOrderCount(orderCount);
+        sales.setQuantity(quantity);
+        return sales;
+    }
+}
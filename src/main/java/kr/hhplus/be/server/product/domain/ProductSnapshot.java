@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * 캐시에 저장하는 상품 정보
+ * 캐시에서 꺼낸 값은 호출마다 새 Product 객체로 복원해 공유 객체가 변경되지 않도록 한다.
+ * stockQty 는 products.stock_qty 값이며, 분할 재고 상품의 분할 카운터 재고는 포함하지 않는다 (ShardedStockService 로 합산).
+ */
+public record ProductSnapshot(
+        Long productId,
+        String productName,
+        Integer productPrice,
+        Integer stockQty,
+        Integer stockShardCount
+) {
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+                product.getProductId(),
+                product.getProductName(),
+                product.getProductPrice(),
+                product.getStockQty(),
+                product.getStockShardCount()
+        );
+    }
+
+    public Product toProduct() {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName(productName);
+        product.setProductPrice(productPrice);
+        product.setStockQty(stockQty);
+        product.setStockShardCount(stockShardCount);
+        return product;
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품 재고 분할 카운터
+ * 인기 상품의 재고를 N개의 행으로 나누어 차감 경합을 분산한다.
+ */
+@Entity
+@Table(name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_shards_product_shard", columnNames = {"product_id", "shard_no"}))
+@Getter @Setter
+@NoArgsConstructor
+public class ProductStockShard {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "shard_id")
+    private Long shardId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "stock_qty", nullable = false)
+    private Integer stockQty;
+
+    public static ProductStockShard create(Long productId, int shardNo, int stockQty) {
+        ProductStockShard shard = new ProductStockShard();
+        shard.setProductId(productId);
+        shard.setShardNo(shardNo);
+        shard.setStockQty(stockQty);
+        return shard;
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * Redis 재고 스크립트 실행 결과
+ */
+public record StockDecreaseResult(Status status, Long productId) {
+    public enum Status {
+        SUCCESS,
+        INSUFFICIENT,   // 재고 부족
+        NOT_LOADED      // 재고 카운터 미초기화
+    }
+
+    public static StockDecreaseResult success() {
+        return new StockDecreaseResult(Status.SUCCESS, null);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
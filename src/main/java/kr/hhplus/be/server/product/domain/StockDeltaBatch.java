@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.product.domain;
+
+import java.util.Map;
+
+/**
+ * DB 반영을 위해 확보한 Redis 재고 변화량 묶음
+ * 반영이 커밋된 뒤에만 Redis 에서 비우며, 같은 묶음이 두 번 반영되지 않도록 묶음 ID 를 DB 에 기록한다.
+ */
+public record StockDeltaBatch(String batchId, Map<Long, Integer> deltas) {
+}
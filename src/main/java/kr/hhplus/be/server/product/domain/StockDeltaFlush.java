@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영된 Redis 재고 변화량 묶음 기록
+ * 재고 반영과 같은 트랜잭션에 저장되어, 커밋 후 Redis 에서 묶음을 비우기 전에 중단되어도 다시 반영하지 않는다.
+ */
+@Entity
+@Table(name = "stock_delta_flushes",
+        indexes = @Index(name = "idx_stock_delta_flushes_flushed_at", columnList = "flushed_at"))
+@Getter @Setter
+@NoArgsConstructor
+public class StockDeltaFlush {
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+
+    public static StockDeltaFlush create(String batchId) {
+        StockDeltaFlush flush = new StockDeltaFlush();
+        flush.setBatchId(batchId);
+        flush.setFlushedAt(LocalDateTime.now());
+        return flush;
+    }
+}
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * 재고 카운터 초기화 기준이 되는 변화량 반영 상태
+ * version 은 변화량 묶음을 확보하거나 비울 때마다 증가하며, flushingBatchId 는 DB 반영 중인 묶음 ID (없으면 null)
+ */
+public record StockDeltaState(long version, String flushingBatchId) {
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 재고 점유 기록
+ * 주문 시 생성되어 결제 완료 시 확정(COMMITTED)되고, 만료되면 일괄 해제(RELEASED)된다.
+ */
+@Entity
+@Table(name = "stock_holds", indexes = {
+        @Index(name = "idx_stock_holds_order_id", columnList = "order_id"),
+        @Index(name = "idx_stock_holds_status_expires_at", columnList = "hold_status, expires_at"),
+        @Index(name = "idx_stock_holds_expires_at", columnList = "expires_at")
+})
+@Getter @Setter
+@NoArgsConstructor
+public class StockHold {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_id")
+    private Long holdId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "hold_qty", nullable = false)
+    private Integer holdQty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "hold_status", nullable = false)
+    private StockHoldStatus holdStatus;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 재고 점유 생성
+    public static StockHold create(Long orderId, Long productId, int holdQty, LocalDateTime expiresAt) {
+        StockHold hold = new StockHold();
+        hold.setOrderId(orderId);
+        hold.setProductId(productId);
+        hold.setHoldQty(holdQty);
+        hold.setHoldStatus(StockHoldStatus.HELD);
+        hold.setExpiresAt(expiresAt);
+        hold.setCreatedAt(LocalDateTime.now());
+        return hold;
+    }
+
+    public boolean isHeld() {
+        return holdStatus == StockHoldStatus.HELD;
+    }
+
+    public boolean isCommitted() {
+        return holdStatus == StockHoldStatus.COMMITTED;
+    }
+
+    // 해제되었거나 만료 시간이 지난 점유 (만료 후 아직 일괄 해제되지 않은 점유 포함)
+    public boolean isExpired(LocalDateTime now) {
+        return holdStatus == StockHoldStatus.RELEASED || (isHeld() && expiresAt.isBefore(now));
+    }
+
+    // 점유 확정
+    public void commit() {
+        if (!isHeld()) {
+            throw new IllegalStateException("점유 중인 재고가 아닙니다. holdId=" + holdId);
+        }
+        this.holdStatus = StockHoldStatus.COMMITTED;
+    }
+
+    // 점유 해제
+    public void release() {
+        if (!isHeld()) {
+            throw new IllegalStateException("점유 중인 재고가 아닙니다. holdId=" + holdId);
+        }
+        this.holdStatus = StockHoldStatus.RELEASED;
+    }
+}
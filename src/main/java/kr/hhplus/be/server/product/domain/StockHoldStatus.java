@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.product.domain;
+
+public enum StockHoldStatus {
+    HELD,       // 재고 점유 중
+    COMMITTED,  // 결제 완료로 재고 확정
+    RELEASED    // 만료 또는 취소로 점유 해제
+}
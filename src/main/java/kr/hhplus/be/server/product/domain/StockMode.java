@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.product.domain;
+
+public enum StockMode {
+    LOCK,       // 분산 락 + 엔티티 재고 차감 (기본)
+    REDIS,      // Redis 재고 카운터 원자적 차감 + DB 지연 반영
+    ATOMIC_SQL, // 조건부 UPDATE 재고 차감 (락 없음)
+    HOLD,       // 만료 시간이 있는 재고 점유 후 결제 시 확정
+    COMBINING   // 상품별 동시 차감 요청을 합산해 한 번에 처리
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * 기간별 상품 판매 합계 (일간 집계 합산 결과)
+ */
+public record TopProductSales(
+        Long productId,
+        String productName,
+        Integer productPrice,
+        Integer stockQty,
+        Long orderCount,
+        Long totalQuantity
+) {
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.product.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProductPageResponse {
+    private final List<ProductResponse> products;
+    private final Long nextCursor;  // 다음 페이지 조회 시 전달할 커서 (마지막 상품 ID)
+    private final boolean hasNext;
+}
@@ -1,6 +1,6 @@
 package kr.hhplus.be.server.product.domain.dto.response;
 
-import kr.hhplus.be.server.product.domain.TopProductView;
+import kr.hhplus.be.server.product.domain.TopProductSales;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,14 +22,14 @@ public class TopProductResponse implements Serializable {
     private final Long orderCount;
     private final Long totalQuantity;
 
-    public static TopProductResponse from(TopProductView view) {
+    public static TopProductResponse from(TopProductSales sales) {
         return TopProductResponse.builder()
-                .productId(view.getProductId())
-                .productName(view.getProductName())
-                .productPrice(view.getProductPrice())
-                .stockQty(view.getStockQty())
-                .orderCount(view.getOrderCount())
-                .totalQuantity(view.getTotalQuantity())
+                .productId(sales.productId())
+                .productName(sales.productName())
+                .productPrice(sales.productPrice())
+                .stockQty(sales.stockQty())
+                .orderCount(sales.orderCount())
+                .totalQuantity(sales.totalQuantity())
                 .build();
     }
 }
\ No newline at end of file
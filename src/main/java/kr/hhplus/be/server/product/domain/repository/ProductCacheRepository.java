@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.ProductSnapshot;
+
+import java.util.Optional;
+
+public interface ProductCacheRepository {
+    Optional<ProductSnapshot> findById(Long productId);
+
+    void save(ProductSnapshot product);
+
+    // 로컬/Redis 캐시에서 제거하고 다른 서버에도 무효화 전파
+    void evict(Long productId);
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.ProductRank;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRankingRepository {
+    // 일간 랭킹에 상품별 판매 수량 반영 (음수면 차감)
+    void increaseScores(LocalDate salesDate, Map<Long, Integer> quantities);
+
+    // 일간 랭킹이 비어 있을 때만 판매 수량으로 채움 - 채웠으면 true
+    boolean seedScores(LocalDate salesDate, Map<Long, Integer> quantities);
+
+    // today 포함 최근 days 일간 판매 수량 상위 상품 조회
+    List<ProductRank> findTopRanks(LocalDate today, int days, int limit);
+}
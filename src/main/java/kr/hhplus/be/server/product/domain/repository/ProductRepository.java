@@ -4,7 +4,9 @@ package kr.hhplus.be.server.product.domain.repository;
 import kr.hhplus.be.server.product.domain.Product;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
 
@@ -12,7 +14,29 @@ public interface ProductRepository {
 
     Optional<Product> findById(Long productId);
 
+    List<Product> findAllById(List<Long> productIds);
+
+    // 커서(product_id) 이후 상품 ID 를 ID 순으로 최대 limit 개 조회
+    List<Long> findIdsAfter(Long cursor, int limit);
+
+    // 전체 상품을 ID 순으로 스트리밍 (읽은 상품은 영속성 컨텍스트에서 분리) - 트랜잭션 안에서 사용 후 닫아야 함
+    Stream<Product> streamAll();
+
     void save(Product product);
 
     Optional<Product> findByIdWithPessimisticLock(Long productId);
+
+    // 최신 커밋 기준 재고 조회 (공유 락 - 트랜잭션이 끝날 때까지 다른 트랜잭션의 재고 변경 대기)
+    Optional<Integer> findStockQtyWithSharedLock(Long productId);
+
+    // 재고 변화량을 DB에 직접 반영 - 반영 후 재고가 음수가 되면 반영하지 않으며 반영된 행 수 반환
+    int applyStockDelta(Long productId, int delta);
+
+    // 재고가 충분할 때만 차감 - 반영된 행 수 반환
+    int decreaseStockIfEnough(Long productId, int quantity);
+
+    // 여러 상품의 재고를 하나의 UPDATE 문으로 차감 - 재고가 충분한 상품만 반영되며 반영된 행 수 반환
+    int decreaseStocksIfEnough(Map<Long, Integer> quantities);
+
+    int increaseStock(Long productId, int quantity);
 }
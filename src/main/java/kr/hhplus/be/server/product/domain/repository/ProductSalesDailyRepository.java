@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductSalesDailyRepository {
+    // 일간 집계 증분 반영 (행이 없으면 생성)
+    void increase(Long productId, LocalDate salesDate, int orderCount, int quantity);
+
+    // from 이후 일간 집계 조회
+    List<ProductSalesDaily> findFrom(LocalDate from);
+
+    // from 이후 판매 수량 기준 상위 상품 조회
+    List<TopProductSales> findTopProducts(LocalDate from, int limit);
+
+    // from 이후 일간 집계를 주문 이력으로부터 다시 생성 - 생성된 행 수 반환
+    int rebuildFrom(LocalDate from);
+}
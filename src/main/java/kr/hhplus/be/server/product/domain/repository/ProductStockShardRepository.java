@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.ProductStockShard;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockShardRepository {
+    List<ProductStockShard> saveAll(List<ProductStockShard> shards);
+
+    long sumStockQty(Long productId);
+
+    // 상품별 분할 재고 합계
+    Map<Long, Long> sumStockQtyByProductId();
+
+    List<ProductStockShard> findAllByProductIdWithLock(Long productId);
+
+    // 분할 재고가 충분할 때만 차감 - 반영된 행 수 반환
+    int decreaseStockIfEnough(Long productId, int shardNo, int quantity);
+
+    int increaseStock(Long productId, int shardNo, int quantity);
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockDeltaBatch;
+import kr.hhplus.be.server.product.domain.StockDeltaState;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface StockCacheRepository {
+    // 재고 카운터 초기화 기준 상태 조회
+    StockDeltaState getDeltaState();
+
+    // 재고 카운터가 없을 때만 DB 재고 + 미반영 변화량으로 초기화
+    // includeFlushing 이면 DB 반영 중인 묶음의 변화량도 더한다 - state 조회 이후 반영 상태가 바뀌었으면 false (다시 조회 후 재시도)
+    boolean initialize(Long productId, int stockQty, StockDeltaState state, boolean includeFlushing);
+
+    Optional<Integer> getStock(Long productId);
+
+    // 여러 상품의 재고를 하나의 스크립트로 확인 후 차감 (전부 성공 또는 전부 실패)
+    StockDecreaseResult decreaseAll(Map<Long, Integer> quantities);
+
+    void increaseAll(Map<Long, Integer> quantities);
+
+    boolean hasPendingDeltas();
+
+    // DB에 반영할 변화량 묶음 확보 - 아직 비워지지 않은 이전 묶음이 있으면 그 묶음을 그대로 반환
+    Optional<StockDeltaBatch> claimDeltas(String batchId);
+
+    // DB 반영이 커밋된 변화량 묶음 비우기
+    void completeDeltas(String batchId);
+}
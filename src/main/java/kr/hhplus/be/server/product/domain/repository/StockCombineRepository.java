@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 재고 차감 결합기 전용 재고 저장소
+ * 주문 트랜잭션의 커넥션 풀과 분리된 예약 커넥션에서 호출자 트랜잭션과 무관하게 즉시 커밋된다.
+ */
+public interface StockCombineRepository {
+    // 재고가 충분할 때만 차감 - 반영 여부 반환
+    boolean decreaseStockIfEnough(Long productId, int quantity);
+
+    // 상품 행을 잠그고 현재 재고를 allocator 에 전달해 반환된 수량만큼 차감 (한 트랜잭션)
+    // 분할 재고 상품이면 차감하지 않고 false 반환
+    boolean decreaseAllocatedStock(Long productId, IntUnaryOperator allocator);
+
+    int increaseStock(Long productId, int quantity);
+}
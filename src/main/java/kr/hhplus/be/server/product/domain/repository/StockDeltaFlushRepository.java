@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.StockDeltaFlush;
+
+import java.time.LocalDateTime;
+
+public interface StockDeltaFlushRepository {
+    // 묶음 반영 여부 - 잠금 읽기로 최신 커밋 기준 확인
+    boolean isApplied(String batchId);
+
+    void save(StockDeltaFlush flush);
+
+    // 보관 기간이 지난 반영 기록 삭제 - 삭제된 행 수 반환
+    int deleteFlushedBefore(LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockHold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface StockHoldCacheRepository {
+    // 보유 재고 카운터 버전 - 점유 확정으로 보유 재고가 줄 때마다 증가
+    long getOnHandVersion(Long productId);
+
+    // 보유 재고 카운터가 없을 때만 DB 재고 기준으로 초기화
+    // 카운터가 준비되면 true, 버전 조회 이후 점유가 확정되었으면 false (다시 조회 후 재시도)
+    boolean initialize(Long productId, int stockQty, long onHandVersion);
+
+    // 점유 가능 재고 (보유 재고 - 만료되지 않은 점유 수량)
+    Optional<Integer> getAvailable(Long productId);
+
+    // 점유 가능 재고를 확인 후 점유 기록 (전부 성공 또는 전부 실패) - 기록된 점유는 만료 시각이 지나면 점유 수량에서 빠진다
+    StockDecreaseResult holdAll(List<StockHold> holds);
+
+    // 점유 확정 - 보유 재고를 줄이고 점유 기록 제거
+    void commitAll(List<StockHold> holds);
+
+    // 점유 해제 - 점유 기록 제거 (이미 없으면 무시)
+    void releaseAll(List<StockHold> holds);
+
+    // 상품에 점유가 기록된 주문 ID
+    Set<Long> getHeldOrderIds(Long productId);
+
+    /**
+     * DB 점유 기록으로 보정
+     * missingHolds 는 다시 기록하고, heldHolds 에 없는 점유 중 만료 시각이 orphanExpiresBefore 이전인 점유는 제거한 뒤
+     * 보유 재고 카운터를 비워 다음 조회 시 DB 재고로 다시 적재한다.
+     * 제거한 점유 건수 반환
+     */
+    int reconcile(Long productId, List<StockHold> heldHolds, List<StockHold> missingHolds, LocalDateTime orphanExpiresBefore);
+}
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.StockHold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockHoldRepository {
+    List<StockHold> saveAll(List<StockHold> holds);
+
+    // 주문의 점유 기록 조회 (비관적 락)
+    List<StockHold> findByOrderIdWithLock(Long orderId);
+
+    // 만료된 점유 기록 조회 - 다른 트랜잭션이 잠근 행은 건너뜀
+    List<StockHold> findExpiredHoldsWithLock(LocalDateTime now, int limit);
+
+    // 만료 시각이 지나지 않은 점유 기록이 있는 상품 ID (상태 무관)
+    List<Long> findProductIdsWithUnexpiredHolds(LocalDateTime now);
+
+    // 만료 시각이 지나지 않은 점유 중 기록
+    List<StockHold> findUnexpiredHeldHolds(LocalDateTime now);
+}
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.product.domain.ProductSnapshot;
+import kr.hhplus.be.server.product.domain.repository.ProductCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 상품 캐시 (L1: 서버 로컬 Caffeine, L2: Redis)
+ * 조회는 L1 → L2 → DB 순서로 하고, 변경 시 Redis pub/sub으로 모든 서버의 L1을 무효화한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductCacheRepositoryImpl implements ProductCacheRepository, MessageListener {
+    private static final String KEY_PREFIX = "PRODUCT:";
+    private static final String INVALIDATION_CHANNEL = "PRODUCT:INVALIDATE";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${product.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${product.cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${product.cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${product.cache.redis.ttl-seconds:60}")
+    private long redisTtlSeconds;
+
+    private Cache<String, Object> localCache;
+
+    @PostConstruct
+    void subscribe() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    @Override
+    public Optional<ProductSnapshot> findById(Long productId) {
+        return find(KEY_PREFIX + productId, ProductSnapshot.class);
+    }
+
+    @Override
+    public void save(ProductSnapshot product) {
+        put(KEY_PREFIX + product.productId(), product);
+    }
+
+    @Override
+    public void evict(Long productId) {
+        if (!enabled) {
+            return;
+        }
+        evictLocal(productId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + productId);
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            log.warn("상품 캐시 무효화 전파 실패 - productId: {}", productId, e);
+        }
+    }
+
+    // 다른 서버에서 전파된 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void evictLocal(Long productId) {
+        localCache.invalidate(KEY_PREFIX + productId);
+    }
+
+    private <T> Optional<T> find(String key, Class<T> type) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Object local = localCache.getIfPresent(key);
+        if (type.isInstance(local)) {
+            return Optional.of(type.cast(local));
+        }
+
+        try {
+            Object remote = redisTemplate.opsForValue().get(key);
+            if (type.isInstance(remote)) {
+                localCache.put(key, remote);
+                return Optional.of(type.cast(remote));
+            }
+        } catch (Exception e) {
+            log.warn("상품 캐시 조회 실패 - key: {}", key, e);
+        }
+        return Optional.empty();
+    }
+
+    private void put(String key, Object value) {
+        if (!enabled) {
+            return;
+        }
+        localCache.put(key, value);
+        try {
+            redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("상품 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+}
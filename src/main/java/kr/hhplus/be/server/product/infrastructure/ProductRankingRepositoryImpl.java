@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.ProductRank;
+import kr.hhplus.be.server.product.domain.repository.ProductRankingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Sorted Set 기반 판매 랭킹
+ * RANKING:DAILY:{yyyyMMdd}         - 일간 판매 수량 (최대 조회 기간이 지나면 자동 만료)
+ * RANKING:WINDOW:{days}:{yyyyMMdd} - 최근 days 일 합산 결과 (짧게 유지)
+ */
+@Repository
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+    private static final String DAILY_KEY_PREFIX = "RANKING:DAILY:";
+    private static final String WINDOW_KEY_PREFIX = "RANKING:WINDOW:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration DAILY_TTL = Duration.ofDays(8);  // 최대 조회 기간(7일) + 1일
+
+    // KEYS[1] 일간 키 / ARGV[1] 만료 시간(초), ARGV[2..] 상품 ID, 수량 쌍
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] 일간 키 / ARGV[1] 만료 시간(초), ARGV[2..] 상품 ID, 수량 쌍 - 이미 반영 중인 일간 키는 덮어쓰지 않음
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] 합산 키, KEYS[2..] 일간 키 / ARGV[1] 합산 결과 유지 시간(ms), ARGV[2] 조회 개수
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1, 'WITHSCORES')
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration windowTtl;
+
+    public ProductRankingRepositoryImpl(StringRedisTemplate redisTemplate,
+                                        @Value("${product.ranking.window-cache-ms:5000}") long windowCacheMs) {
+        this.redisTemplate = redisTemplate;
+        this.windowTtl = Duration.ofMillis(windowCacheMs);
+    }
+
+    @Override
+    public void increaseScores(LocalDate salesDate, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        redisTemplate.execute(INCREASE_SCRIPT, List.of(dailyKey(salesDate)), scoreArgs(quantities));
+    }
+
+    @Override
+    public boolean seedScores(LocalDate salesDate, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return false;
+        }
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(dailyKey(salesDate)), scoreArgs(quantities));
+        return seeded != null && seeded == 1L;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductRank> findTopRanks(LocalDate today, int days, int limit) {
+        List<String> keys = new ArrayList<>(days + 1);
+        keys.add(WINDOW_KEY_PREFIX + days + ":" + today.format(DATE_FORMAT));
+        for (int i = 0; i < days; i++) {
+            keys.add(dailyKey(today.minusDays(i)));
+        }
+
+        List<String> result = redisTemplate.execute(TOP_SCRIPT, keys,
+                String.valueOf(windowTtl.toMillis()), String.valueOf(limit));
+        if (result == null) {
+            return List.of();
+        }
+
+        // [상품 ID, 점수, 상품 ID, 점수, ...]
+        List<ProductRank> ranks = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            ranks.add(new ProductRank(Long.valueOf(result.get(i)), (long) Double.parseDouble(result.get(i + 1))));
+        }
+        return ranks;
+    }
+
+    // [만료 시간(초), 상품 ID, 수량, 상품 ID, 수량, ...]
+    private Object[] scoreArgs(Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>(quantities.size() * 2 + 1);
+        args.add(String.valueOf(DAILY_TTL.toSeconds()));
+        quantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        return args.toArray();
+    }
+
+    private String dailyKey(LocalDate date) {
+        return DAILY_KEY_PREFIX + date.format(DATE_FORMAT);
+    }
+}
@@ -1,18 +1,27 @@
 package kr.hhplus.be.server.product.infrastructure;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.repository.ProductCacheRepository;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
 import kr.hhplus.be.server.product.infrastructure.repository.ProductJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
     private final ProductJpaRepository productJpaRepository;
+    private final EntityManager entityManager;
+    private final ProductCacheRepository productCacheRepository;
 
     @Override
     public List<Product> findAll() {
@@ -24,9 +33,26 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findById(productId);
     }
 
+    @Override
+    public List<Product> findAllById(List<Long> productIds) {
+        return productJpaRepository.findAllById(productIds);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long cursor, int limit) {
+        return productJpaRepository.findIdsAfter(cursor, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return productJpaRepository.streamAll()
+                .peek(entityManager::detach);
+    }
+
     @Override
     public void save(Product product) {
         productJpaRepository.save(product);
+        evictAfterCommit(product.getProductId());
     }
 
     @Override
@@ -34,4 +60,83 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findByIdWithPessimisticLock(productId);
     }
 
+    @Override
+    public Optional<Integer> findStockQtyWithSharedLock(Long productId) {
+        return productJpaRepository.findStockQtyForShare(productId);
+    }
+
+    @Override
+    public int applyStockDelta(Long productId, int delta) {
+        int updated = productJpaRepository.applyStockDelta(productId, delta);
+        detach(productId);
+        evictAfterCommit(productId);
+        return updated;
+    }
+
+    @Override
+    public int decreaseStockIfEnough(Long productId, int quantity) {
+        int updated = productJpaRepository.decreaseStockIfEnough(productId, quantity);
+        detach(productId);
+        evictAfterCommit(productId);
+        return updated;
+    }
+
+    @Override
+    public int decreaseStocksIfEnough(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE products SET stock_qty = stock_qty - CASE product_id WHEN ? THEN ? ... END
+        // WHERE product_id IN (...) AND stock_qty >= CASE product_id WHEN ? THEN ? ... END
+        StringBuilder caseClause = new StringBuilder("CASE product_id");
+        StringBuilder inClause = new StringBuilder();
+        int index = 0;
+        for (Long productId : quantities.keySet()) {
+            caseClause.append(" WHEN :id").append(index).append(" THEN :qty").append(index);
+            inClause.append(index == 0 ? "" : ", ").append(":id").append(index);
+            index++;
+        }
+        caseClause.append(" END");
+
+        Query query = entityManager.createNativeQuery(
+                "UPDATE products SET stock_qty = stock_qty - " + caseClause +
+                " WHERE product_id IN (" + inClause + ") AND stock_qty >= " + caseClause);
+
+        // 대기 중인 변경 사항을 먼저 반영한 뒤 실행
+        entityManager.flush();
+
+        index = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            query.setParameter("id" + index, entry.getKey());
+            query.setParameter("qty" + index, entry.getValue());
+            index++;
+        }
+
+        int updated = query.executeUpdate();
+        quantities.keySet().forEach(productId -> {
+            detach(productId);
+            evictAfterCommit(productId);
+        });
+        return updated;
+    }
+
+    @Override
+    public int increaseStock(Long productId, int quantity) {
+        int updated = productJpaRepository.increaseStock(productId, quantity);
+        detach(productId);
+        evictAfterCommit(productId);
+        return updated;
+    }
+
+    // 재고를 직접 UPDATE 한 상품만 영속성 컨텍스트에서 분리 - 다음 조회 시 DB 값을 다시 읽음
+    // (변경 사항은 UPDATE 전에 flush 되었으므로 분리해도 유실되지 않고, 다른 엔티티는 그대로 관리됨)
+    private void detach(Long productId) {
+        entityManager.detach(entityManager.getReference(Product.class, productId));
+    }
+
+    // 재고/가격 변경이 커밋된 뒤 상품 캐시 무효화
+    private void evictAfterCommit(Long productId) {
+        TransactionHooks.afterCommit(() -> productCacheRepository.evict(productId));
+    }
 }
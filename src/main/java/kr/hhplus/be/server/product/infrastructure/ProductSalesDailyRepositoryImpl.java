@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.ProductSalesDailyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesDailyRepositoryImpl implements ProductSalesDailyRepository {
+    private final ProductSalesDailyJpaRepository productSalesDailyJpaRepository;
+
+    @Override
+    public void increase(Long productId, LocalDate salesDate, int orderCount, int quantity) {
+        productSalesDailyJpaRepository.upsert(productId, salesDate, orderCount, quantity);
+    }
+
+    @Override
+    public List<ProductSalesDaily> findFrom(LocalDate from) {
+        return productSalesDailyJpaRepository.findBySalesDateGreaterThanEqual(from);
+    }
+
+    @Override
+    public List<TopProductSales> findTopProducts(LocalDate from, int limit) {
+        return productSalesDailyJpaRepository.findTopProducts(from, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int rebuildFrom(LocalDate from) {
+        productSalesDailyJpaRepository.deleteFrom(from);
+        return productSalesDailyJpaRepository.insertFromOrders(from);
+    }
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.ProductStockShard;
+import kr.hhplus.be.server.product.domain.repository.ProductStockShardRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.ProductStockShardJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockShardRepositoryImpl implements ProductStockShardRepository {
+    private final ProductStockShardJpaRepository productStockShardJpaRepository;
+
+    @Override
+    public List<ProductStockShard> saveAll(List<ProductStockShard> shards) {
+        return productStockShardJpaRepository.saveAll(shards);
+    }
+
+    @Override
+    public long sumStockQty(Long productId) {
+        return productStockShardJpaRepository.sumStockQty(productId);
+    }
+
+    @Override
+    public Map<Long, Long> sumStockQtyByProductId() {
+        Map<Long, Long> sums = new HashMap<>();
+        for (Object[] row : productStockShardJpaRepository.sumStockQtyGroupByProductId()) {
+            sums.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return sums;
+    }
+
+    @Override
+    public List<ProductStockShard> findAllByProductIdWithLock(Long productId) {
+        return productStockShardJpaRepository.findAllByProductIdWithLock(productId);
+    }
+
+    @Override
+    public int decreaseStockIfEnough(Long productId, int shardNo, int quantity) {
+        return productStockShardJpaRepository.decreaseStockIfEnough(productId, shardNo, quantity);
+    }
+
+    @Override
+    public int increaseStock(Long productId, int shardNo, int quantity) {
+        return productStockShardJpaRepository.increaseStock(productId, shardNo, quantity);
+    }
+}
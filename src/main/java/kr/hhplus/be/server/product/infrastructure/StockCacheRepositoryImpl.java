@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockDeltaBatch;
+import kr.hhplus.be.server.product.domain.StockDeltaState;
+import kr.hhplus.be.server.product.domain.repository.StockCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 재고 카운터 저장소
+ * STOCK:PRODUCT:{productId} - 실시간 재고 수량
+ * STOCK:DELTA (hash)        - DB에 아직 반영되지 않은 상품별 재고 변화량
+ * STOCK:DELTA:FLUSHING (hash) - DB 반영 중인 변화량 묶음 (반영이 커밋된 뒤 비움)
+ * STOCK:DELTA:BATCH         - DB 반영 중인 묶음 ID
+ * STOCK:DELTA:VERSION       - 묶음을 확보하거나 비울 때마다 증가 (재고 카운터 초기화 경합 확인용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockCacheRepositoryImpl implements StockCacheRepository {
+    private static final String STOCK_KEY_PREFIX = "STOCK:PRODUCT:";
+    private static final String DELTA_KEY = "STOCK:DELTA";
+    private static final String FLUSHING_KEY = "STOCK:DELTA:FLUSHING";
+    private static final String BATCH_KEY = "STOCK:DELTA:BATCH";
+    private static final String VERSION_KEY = "STOCK:DELTA:VERSION";
+
+    // KEYS[1] 재고 카운터, KEYS[2] 변화량 hash, KEYS[3] 반영 중 hash, KEYS[4] 버전
+    // ARGV[1] DB 재고, ARGV[2] 상품 ID, ARGV[3] 조회 시점 버전, ARGV[4] 반영 중 변화량 포함 여부
+    // 반환값: 1 카운터 있음, 0 조회 이후 반영 상태가 바뀜
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 1
+            end
+            if (tonumber(redis.call('GET', KEYS[4])) or 0) ~= tonumber(ARGV[3]) then
+                return 0
+            end
+            local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2])) or 0
+            if ARGV[4] == '1' then
+                pending = pending + (tonumber(redis.call('HGET', KEYS[3], ARGV[2])) or 0)
+            end
+            redis.call('SET', KEYS[1], tonumber(ARGV[1]) + pending)
+            return 1
+            """, Long.class);
+
+    // KEYS[1..n] 재고 카운터, KEYS[n+1] 변화량 hash / ARGV[1..n] 수량, ARGV[n+1..2n] 상품 ID
+    // 반환값: 0 성공, i 재고 부족(i번째 상품), -i 카운터 없음(i번째 상품)
+    private static final RedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return -i
+                end
+                if tonumber(stock) < tonumber(ARGV[i]) then
+                    return i
+                end
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+            end
+            return 0
+            """, Long.class);
+
+    // 카운터가 없는 상품은 변화량만 기록 (초기화 시 DB 재고 + 변화량으로 복원됨)
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                end
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+            end
+            return n
+            """, Long.class);
+
+    // KEYS[1] 변화량 hash, KEYS[2] 반영 중 hash, KEYS[3] 묶음 ID, KEYS[4] 버전 / ARGV[1] 새 묶음 ID
+    // 반환값: {묶음 ID, 상품 ID, 변화량, ...} - 반영할 변화량이 없으면 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local batchId = redis.call('GET', KEYS[3])
+            if not batchId then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                batchId = ARGV[1]
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('SET', KEYS[3], batchId)
+                redis.call('INCR', KEYS[4])
+            end
+            local entries = redis.call('HGETALL', KEYS[2])
+            table.insert(entries, 1, batchId)
+            return entries
+            """, List.class);
+
+    // KEYS[1] 반영 중 hash, KEYS[2] 묶음 ID, KEYS[3] 버전 / ARGV[1] 묶음 ID
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public StockDeltaState getDeltaState() {
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(VERSION_KEY, BATCH_KEY));
+        if (values == null) {
+            return new StockDeltaState(0L, null);
+        }
+        long version = values.get(0) != null ? Long.parseLong(values.get(0)) : 0L;
+        return new StockDeltaState(version, values.get(1));
+    }
+
+    @Override
+    public boolean initialize(Long productId, int stockQty, StockDeltaState state, boolean includeFlushing) {
+        Long result = redisTemplate.execute(INITIALIZE_SCRIPT,
+                List.of(stockKey(productId), DELTA_KEY, FLUSHING_KEY, VERSION_KEY),
+                String.valueOf(stockQty), String.valueOf(productId),
+                String.valueOf(state.version()), includeFlushing ? "1" : "0");
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public Optional<Integer> getStock(Long productId) {
+        String value = redisTemplate.opsForValue().get(stockKey(productId));
+        return Optional.ofNullable(value).map(Integer::valueOf);
+    }
+
+    @Override
+    public StockDecreaseResult decreaseAll(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        Long result = redisTemplate.execute(DECREASE_SCRIPT, keys(productIds), args(productIds, quantities));
+
+        if (result == null || result == 0L) {
+            return StockDecreaseResult.success();
+        }
+        if (result > 0) {
+            return new StockDecreaseResult(StockDecreaseResult.Status.INSUFFICIENT, productIds.get(result.intValue() - 1));
+        }
+        return new StockDecreaseResult(StockDecreaseResult.Status.NOT_LOADED, productIds.get((int) -result - 1));
+    }
+
+    @Override
+    public void increaseAll(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        redisTemplate.execute(INCREASE_SCRIPT, keys(productIds), args(productIds, quantities));
+    }
+
+    @Override
+    public boolean hasPendingDeltas() {
+        Long count = redisTemplate.countExistingKeys(List.of(DELTA_KEY, BATCH_KEY));
+        return count != null && count > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<StockDeltaBatch> claimDeltas(String batchId) {
+        List<String> entries = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(DELTA_KEY, FLUSHING_KEY, BATCH_KEY, VERSION_KEY), batchId);
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        for (int i = 1; i + 1 < entries.size(); i += 2) {
+            int delta = Integer.parseInt(entries.get(i + 1));
+            if (delta != 0) {
+                deltas.put(Long.valueOf(entries.get(i)), delta);
+            }
+        }
+        return Optional.of(new StockDeltaBatch(entries.get(0), deltas));
+    }
+
+    @Override
+    public void completeDeltas(String batchId) {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(FLUSHING_KEY, BATCH_KEY, VERSION_KEY), batchId);
+    }
+
+    private String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    private List<String> keys(List<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        for (Long productId : productIds) {
+            keys.add(stockKey(productId));
+        }
+        keys.add(DELTA_KEY);
+        return keys;
+    }
+
+    private Object[] args(List<Long> productIds, Map<Long, Integer> quantities) {
+        Object[] args = new Object[productIds.size() * 2];
+        for (int i = 0; i < productIds.size(); i++) {
+            args[i] = String.valueOf(quantities.get(productIds.get(i)));
+            args[productIds.size() + i] = String.valueOf(productIds.get(i));
+        }
+        return args;
+    }
+}
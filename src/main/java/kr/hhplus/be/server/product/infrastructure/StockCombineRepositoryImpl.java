@@ -0,0 +1,137 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.product.domain.repository.ProductCacheRepository;
+import kr.hhplus.be.server.product.domain.repository.StockCombineRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 재고 차감 결합기 전용 재고 저장소 (예약 커넥션 풀 + 전용 스레드)
+ * 결합 차감을 기다리는 주문 스레드는 각자 주문 트랜잭션의 커넥션을 쥐고 있으므로, 결합 UPDATE 가 같은 풀에서
+ * 커넥션을 빌리면 동시 주문 수가 풀 크기 이상일 때 모든 스레드가 커넥션 대기로 멈춘다.
+ * 결합 UPDATE 는 별도 풀(pool-size 개)의 커넥션만 사용하고, 호출 스레드의 트랜잭션 동기화에 묶이지 않도록 전용 스레드에서 실행한다.
+ */
+@Repository
+public class StockCombineRepositoryImpl implements StockCombineRepository {
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final ProductCacheRepository productCacheRepository;
+
+    public StockCombineRepositoryImpl(DataSourceProperties dataSourceProperties,
+                                      ProductCacheRepository productCacheRepository,
+                                      @Value("${product.stock.combine.pool-size:2}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.dataSource.setPoolName("stock-combine");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.productCacheRepository = productCacheRepository;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "stock-combine-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public boolean decreaseStockIfEnough(Long productId, int quantity) {
+        int updated = execute(() -> jdbcTemplate.update(
+                "UPDATE products SET stock_qty = stock_qty - ? WHERE product_id = ? AND stock_qty >= ?",
+                quantity, productId, quantity));
+        return evictIfUpdated(productId, updated) > 0;
+    }
+
+    @Override
+    public boolean decreaseAllocatedStock(Long productId, IntUnaryOperator allocator) {
+        Integer granted = execute(() -> transactionTemplate.execute(status -> {
+            List<int[]> rows = jdbcTemplate.query(
+                    "SELECT stock_qty, COALESCE(stock_shard_count, 0) FROM products WHERE product_id = ? FOR UPDATE",
+                    (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, productId);
+            if (rows.isEmpty()) {
+                throw new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId);
+            }
+            if (rows.get(0)[1] > 0) {
+                return null;
+            }
+
+            int allocated = allocator.applyAsInt(rows.get(0)[0]);
+            if (allocated > 0) {
+                jdbcTemplate.update("UPDATE products SET stock_qty = stock_qty - ? WHERE product_id = ?", allocated, productId);
+            }
+            return allocated;
+        }));
+        if (granted == null) {
+            return false;
+        }
+        evictIfUpdated(productId, granted);
+        return true;
+    }
+
+    @Override
+    public int increaseStock(Long productId, int quantity) {
+        int updated = execute(() -> jdbcTemplate.update(
+                "UPDATE products SET stock_qty = stock_qty + ? WHERE product_id = ?", quantity, productId));
+        return evictIfUpdated(productId, updated);
+    }
+
+    // 커밋된 재고 변경은 상품 캐시에서 무효화
+    private int evictIfUpdated(Long productId, int updated) {
+        if (updated > 0) {
+            productCacheRepository.evict(productId);
+        }
+        return updated;
+    }
+
+    // 전용 스레드에서 실행 후 결과를 기다림 - 제출한 작업은 인터럽트와 무관하게 끝까지 기다려 결과를 놓치지 않음
+    private <T> T execute(Callable<T> work) {
+        Future<T> future = executor.submit(work);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+        dataSource.close();
+    }
+}
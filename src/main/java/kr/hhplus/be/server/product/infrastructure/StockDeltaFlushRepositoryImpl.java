@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.StockDeltaFlush;
+import kr.hhplus.be.server.product.domain.repository.StockDeltaFlushRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.StockDeltaFlushJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class StockDeltaFlushRepositoryImpl implements StockDeltaFlushRepository {
+    private final StockDeltaFlushJpaRepository stockDeltaFlushJpaRepository;
+
+    @Override
+    public boolean isApplied(String batchId) {
+        return stockDeltaFlushJpaRepository.countByBatchIdForShare(batchId) > 0;
+    }
+
+    @Override
+    public void save(StockDeltaFlush flush) {
+        stockDeltaFlushJpaRepository.save(flush);
+    }
+
+    @Override
+    public int deleteFlushedBefore(LocalDateTime before) {
+        return stockDeltaFlushJpaRepository.deleteFlushedBefore(before);
+    }
+}
@@ -0,0 +1,273 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockHold;
+import kr.hhplus.be.server.product.domain.repository.StockHoldCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 점유 인덱스
+ * STOCK:ONHAND:{productId}         - DB 재고 (만료 또는 보정 시 DB에서 다시 적재)
+ * STOCK:ONHAND:VERSION:{productId} - 점유 확정으로 보유 재고가 줄 때마다 증가 (적재 중 확정된 점유 확인용)
+ * STOCK:HELD:{productId}           - 만료되지 않은 점유 수량 합계
+ * STOCK:HOLDS:{productId} (zset)   - 점유 기록 (member: 주문 ID:수량, score: 만료 시각 epoch ms)
+ * 만료된 점유는 스크립트 실행 시 점유 수량에서 빠지므로, 해제/확정 반영이 누락되어도 만료 시각이 지나면 복구된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockHoldCacheRepositoryImpl implements StockHoldCacheRepository {
+    private static final String ON_HAND_KEY_PREFIX = "STOCK:ONHAND:";
+    private static final String ON_HAND_VERSION_KEY_PREFIX = "STOCK:ONHAND:VERSION:";
+    private static final String HELD_KEY_PREFIX = "STOCK:HELD:";
+    private static final String HOLDS_KEY_PREFIX = "STOCK:HOLDS:";
+    private static final Duration ON_HAND_TTL = Duration.ofMinutes(10);
+
+    // 만료된 점유 기록을 지우고 점유 수량에서 뺀다 (KEYS 보유 재고/점유 수량/점유 기록/버전 4개씩, ARGV[1] 현재 시각)
+    private static final String PURGE_FUNCTION = """
+            local function qtyOf(member)
+                return tonumber(string.match(member, ':(%d+)$'))
+            end
+            local function decreaseHeld(heldKey, qty)
+                if redis.call('DECRBY', heldKey, qty) < 0 then
+                    redis.call('SET', heldKey, 0)
+                end
+            end
+            local function purge(heldKey, holdsKey, now)
+                local expired = redis.call('ZRANGEBYSCORE', holdsKey, '-inf', '(' .. now)
+                for _, member in ipairs(expired) do
+                    decreaseHeld(heldKey, qtyOf(member))
+                end
+                if #expired > 0 then
+                    redis.call('ZREMRANGEBYSCORE', holdsKey, '-inf', '(' .. now)
+                end
+            end
+            """;
+
+    // ARGV[2 + 3(i-1)..] 점유 기록, 수량, 만료 시각
+    // 반환값: 0 성공, i 재고 부족(i번째 점유), -i 카운터 없음(i번째 점유)
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>(PURGE_FUNCTION + """
+            local n = #KEYS / 4
+            for i = 1, n do
+                purge(KEYS[4 * i - 2], KEYS[4 * i - 1], ARGV[1])
+            end
+            for i = 1, n do
+                local onHand = redis.call('GET', KEYS[4 * i - 3])
+                if not onHand then
+                    return -i
+                end
+                local held = tonumber(redis.call('GET', KEYS[4 * i - 2])) or 0
+                if tonumber(onHand) - held < tonumber(ARGV[3 * i]) then
+                    return i
+                end
+            end
+            for i = 1, n do
+                if redis.call('ZADD', KEYS[4 * i - 1], 'NX', ARGV[3 * i + 1], ARGV[3 * i - 1]) == 1 then
+                    redis.call('INCRBY', KEYS[4 * i - 2], ARGV[3 * i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // 보유 재고는 점유 기록 유무와 관계없이 감소 (DB 재고가 이미 차감됨)
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>(PURGE_FUNCTION + """
+            local n = #KEYS / 4
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[4 * i - 3]) == 1 then
+                    redis.call('DECRBY', KEYS[4 * i - 3], ARGV[3 * i])
+                end
+                redis.call('INCR', KEYS[4 * i])
+                if redis.call('ZREM', KEYS[4 * i - 1], ARGV[3 * i - 1]) == 1 then
+                    decreaseHeld(KEYS[4 * i - 2], tonumber(ARGV[3 * i]))
+                end
+            end
+            return n
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(PURGE_FUNCTION + """
+            local n = #KEYS / 4
+            for i = 1, n do
+                if redis.call('ZREM', KEYS[4 * i - 1], ARGV[3 * i - 1]) == 1 then
+                    decreaseHeld(KEYS[4 * i - 2], tonumber(ARGV[3 * i]))
+                end
+            end
+            return n
+            """, Long.class);
+
+    // KEYS[1] 보유 재고, KEYS[2] 점유 수량, KEYS[3] 점유 기록 / ARGV[1] 현재 시각
+    // 반환값: 점유 가능 재고, 카운터가 없으면 nil
+    private static final RedisScript<Long> AVAILABLE_SCRIPT = new DefaultRedisScript<>(PURGE_FUNCTION + """
+            local onHand = redis.call('GET', KEYS[1])
+            if not onHand then
+                return nil
+            end
+            purge(KEYS[2], KEYS[3], ARGV[1])
+            return tonumber(onHand) - (tonumber(redis.call('GET', KEYS[2])) or 0)
+            """, Long.class);
+
+    // KEYS[1] 보유 재고, KEYS[2] 버전 / ARGV[1] DB 재고, ARGV[2] 조회 시점 버전, ARGV[3] TTL(ms)
+    // 반환값: 1 카운터 있음, 0 조회 이후 점유가 확정됨
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 1
+            end
+            if (tonumber(redis.call('GET', KEYS[2])) or 0) ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] 보유 재고, KEYS[2] 점유 수량, KEYS[3] 점유 기록
+    // ARGV[1] 현재 시각, ARGV[2] 고아 점유 만료 시각 기준, ARGV[3] 다시 기록할 점유 수 k,
+    // ARGV[4..3+2k] 다시 기록할 점유 (점유 기록, 만료 시각), 이후 DB 에서 점유 중인 점유 기록
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(PURGE_FUNCTION + """
+            purge(KEYS[2], KEYS[3], ARGV[1])
+            local k = tonumber(ARGV[3])
+            local held = {}
+            for i = 4 + 2 * k, #ARGV do
+                held[ARGV[i]] = true
+            end
+            for i = 0, k - 1 do
+                local member = ARGV[4 + 2 * i]
+                local score = ARGV[5 + 2 * i]
+                if tonumber(score) >= tonumber(ARGV[1])
+                        and redis.call('ZADD', KEYS[3], 'NX', score, member) == 1 then
+                    redis.call('INCRBY', KEYS[2], qtyOf(member))
+                end
+            end
+            local removed = 0
+            for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', '(' .. ARGV[2])) do
+                if not held[member] then
+                    redis.call('ZREM', KEYS[3], member)
+                    decreaseHeld(KEYS[2], qtyOf(member))
+                    removed = removed + 1
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long getOnHandVersion(Long productId) {
+        String value = redisTemplate.opsForValue().get(ON_HAND_VERSION_KEY_PREFIX + productId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    @Override
+    public boolean initialize(Long productId, int stockQty, long onHandVersion) {
+        Long result = redisTemplate.execute(INITIALIZE_SCRIPT,
+                List.of(ON_HAND_KEY_PREFIX + productId, ON_HAND_VERSION_KEY_PREFIX + productId),
+                String.valueOf(stockQty), String.valueOf(onHandVersion), String.valueOf(ON_HAND_TTL.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public Optional<Integer> getAvailable(Long productId) {
+        Long available = redisTemplate.execute(AVAILABLE_SCRIPT,
+                List.of(ON_HAND_KEY_PREFIX + productId, HELD_KEY_PREFIX + productId, HOLDS_KEY_PREFIX + productId),
+                String.valueOf(System.currentTimeMillis()));
+        return Optional.ofNullable(available).map(Long::intValue);
+    }
+
+    @Override
+    public StockDecreaseResult holdAll(List<StockHold> holds) {
+        Long result = redisTemplate.execute(HOLD_SCRIPT, keys(holds), args(holds));
+
+        if (result == null || result == 0L) {
+            return StockDecreaseResult.success();
+        }
+        if (result > 0) {
+            return new StockDecreaseResult(StockDecreaseResult.Status.INSUFFICIENT, holds.get(result.intValue() - 1).getProductId());
+        }
+        return new StockDecreaseResult(StockDecreaseResult.Status.NOT_LOADED, holds.get((int) -result - 1).getProductId());
+    }
+
+    @Override
+    public void commitAll(List<StockHold> holds) {
+        redisTemplate.execute(COMMIT_SCRIPT, keys(holds), args(holds));
+    }
+
+    @Override
+    public void releaseAll(List<StockHold> holds) {
+        redisTemplate.execute(RELEASE_SCRIPT, keys(holds), args(holds));
+    }
+
+    @Override
+    public Set<Long> getHeldOrderIds(Long productId) {
+        Set<String> members = redisTemplate.opsForZSet().range(HOLDS_KEY_PREFIX + productId, 0, -1);
+        Set<Long> orderIds = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                orderIds.add(Long.valueOf(member.substring(0, member.indexOf(':'))));
+            }
+        }
+        return orderIds;
+    }
+
+    @Override
+    public int reconcile(Long productId, List<StockHold> heldHolds, List<StockHold> missingHolds,
+                         LocalDateTime orphanExpiresBefore) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(toEpochMilli(orphanExpiresBefore)));
+        args.add(String.valueOf(missingHolds.size()));
+        for (StockHold hold : missingHolds) {
+            args.add(member(hold));
+            args.add(String.valueOf(toEpochMilli(hold.getExpiresAt())));
+        }
+        for (StockHold hold : heldHolds) {
+            args.add(member(hold));
+        }
+
+        Long removed = redisTemplate.execute(RECONCILE_SCRIPT,
+                List.of(ON_HAND_KEY_PREFIX + productId, HELD_KEY_PREFIX + productId, HOLDS_KEY_PREFIX + productId),
+                args.toArray());
+        return removed != null ? removed.intValue() : 0;
+    }
+
+    private List<String> keys(List<StockHold> holds) {
+        List<String> keys = new ArrayList<>(holds.size() * 4);
+        for (StockHold hold : holds) {
+            keys.add(ON_HAND_KEY_PREFIX + hold.getProductId());
+            keys.add(HELD_KEY_PREFIX + hold.getProductId());
+            keys.add(HOLDS_KEY_PREFIX + hold.getProductId());
+            keys.add(ON_HAND_VERSION_KEY_PREFIX + hold.getProductId());
+        }
+        return keys;
+    }
+
+    private Object[] args(List<StockHold> holds) {
+        Object[] args = new Object[holds.size() * 3 + 1];
+        args[0] = String.valueOf(System.currentTimeMillis());
+        for (int i = 0; i < holds.size(); i++) {
+            StockHold hold = holds.get(i);
+            args[3 * i + 1] = member(hold);
+            args[3 * i + 2] = String.valueOf(hold.getHoldQty());
+            args[3 * i + 3] = String.valueOf(toEpochMilli(hold.getExpiresAt()));
+        }
+        return args;
+    }
+
+    private String member(StockHold hold) {
+        return hold.getOrderId() + ":" + hold.getHoldQty();
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.StockHold;
+import kr.hhplus.be.server.product.domain.repository.StockHoldRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.StockHoldJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class StockHoldRepositoryImpl implements StockHoldRepository {
+    private final StockHoldJpaRepository stockHoldJpaRepository;
+
+    @Override
+    public List<StockHold> saveAll(List<StockHold> holds) {
+        return stockHoldJpaRepository.saveAll(holds);
+    }
+
+    @Override
+    public List<StockHold> findByOrderIdWithLock(Long orderId) {
+        return stockHoldJpaRepository.findByOrderIdWithLock(orderId);
+    }
+
+    @Override
+    public List<StockHold> findExpiredHoldsWithLock(LocalDateTime now, int limit) {
+        return stockHoldJpaRepository.findExpiredHoldsWithLock(now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> findProductIdsWithUnexpiredHolds(LocalDateTime now) {
+        return stockHoldJpaRepository.findProductIdsWithUnexpiredHolds(now);
+    }
+
+    @Override
+    public List<StockHold> findUnexpiredHeldHolds(LocalDateTime now) {
+        return stockHoldJpaRepository.findUnexpiredHeldHolds(now);
+    }
+}
@@ -1,16 +1,53 @@
 package kr.hhplus.be.server.product.infrastructure.repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.hhplus.be.server.product.domain.Product;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.productId = :productId")
     Optional<Product> findByIdWithPessimisticLock(@Param("productId") Long productId);
+
+    // 상품 정보는 상품 캐시에서 조회하므로 ID 만 조회 (기본 키 인덱스만 사용)
+    @Query("SELECT p.productId FROM Product p WHERE p.productId > :cursor ORDER BY p.productId")
+    List<Long> findIdsAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.productId")
+    Stream<Product> streamAll();
+
+    // 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 조회하고, 트랜잭션이 끝날 때까지 재고 변경을 막음
+    @Query(value = "SELECT stock_qty FROM products WHERE product_id = :productId FOR SHARE", nativeQuery = true)
+    Optional<Integer> findStockQtyForShare(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQty = p.stockQty + :delta " +
+            "WHERE p.productId = :productId AND p.stockQty + :delta >= 0")
+    int applyStockDelta(@Param("productId") Long productId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQty = p.stockQty - :quantity " +
+            "WHERE p.productId = :productId AND p.stockQty >= :quantity")
+    int decreaseStockIfEnough(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQty = p.stockQty + :quantity WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
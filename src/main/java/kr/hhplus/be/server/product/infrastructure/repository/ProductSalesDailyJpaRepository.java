@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.product.infrastructure.repository;
+
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductSalesDailyJpaRepository extends JpaRepository<ProductSalesDaily, Long> {
+    @Modifying
+    @Query(value = "INSERT INTO product_sales_daily (product_id, sales_date, order_count, quantity) " +
+            "VALUES (:productId, :salesDate, :orderCount, :quantity) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + :orderCount, quantity = quantity + :quantity",
+            nativeQuery = true)
+    int upsert(@Param("productId") Long productId, @Param("salesDate") LocalDate salesDate,
+               @Param("orderCount") int orderCount, @Param("quantity") int quantity);
+
+    List<ProductSalesDaily> findBySalesDateGreaterThanEqual(LocalDate from);
+
+    @Query("SELECT new kr.hhplus.be.server.product.domain.TopProductSales(" +
+            "p.productId, p.productName, p.productPrice, p.stockQty, SUM(s.orderCount), SUM(s.quantity)) " +
+            "FROM ProductSalesDaily s JOIN Product p ON p.productId = s.productId " +
+            "WHERE s.salesDate >= :from " +
+            "GROUP BY p.productId, p.productName, p.productPrice, p.stockQty " +
+            "ORDER BY SUM(s.quantity) DESC, SUM(s.orderCount) DESC")
+    List<TopProductSales> findTopProducts(@Param("from") LocalDate from, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ProductSalesDaily s WHERE s.salesDate >= :from")
+    int deleteFrom(@Param("from") LocalDate from);
+
+    // 판매 상태(OrderStatus.isSold) 주문만 집계, ordered_at 은 UTC 로 저장되므로 DATE() 가 판매일 (ProductSalesService.SALES_ZONE)
+    @Modifying
+    @Query(value = "INSERT INTO product_sales_daily (product_id, sales_date, order_count, quantity) " +
+            "SELECT oi.product_id, DATE(o.ordered_at), COUNT(DISTINCT o.order_id), SUM(oi.order_item_qty) " +
+            "FROM orders o JOIN order_items oi ON oi.order_id = o.order_id " +
+            "WHERE o.ordered_at >= :from AND o.order_status IN ('PAID', 'PREPARING', 'SHIPPING', 'DELIVERED') " +
+            "GROUP BY oi.product_id, DATE(o.ordered_at)",
+            nativeQuery = true)
+    int insertFromOrders(@Param("from") LocalDate from);
+}
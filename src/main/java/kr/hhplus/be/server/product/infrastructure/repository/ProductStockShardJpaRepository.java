@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.product.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.product.domain.ProductStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductStockShardJpaRepository extends JpaRepository<ProductStockShard, Long> {
+    @Query("SELECT COALESCE(SUM(s.stockQty), 0) FROM ProductStockShard s WHERE s.productId = :productId")
+    long sumStockQty(@Param("productId") Long productId);
+
+    @Query("SELECT s.productId, SUM(s.stockQty) FROM ProductStockShard s GROUP BY s.productId")
+    List<Object[]> sumStockQtyGroupByProductId();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductStockShard s SET s.stockQty = s.stockQty - :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo AND s.stockQty >= :quantity")
+    int decreaseStockIfEnough(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductStockShard s SET s.stockQty = s.stockQty + :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    int increaseStock(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+}
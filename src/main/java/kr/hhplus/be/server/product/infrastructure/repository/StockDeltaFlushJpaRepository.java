@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.product.infrastructure.repository;
+
+import kr.hhplus.be.server.product.domain.StockDeltaFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface StockDeltaFlushJpaRepository extends JpaRepository<StockDeltaFlush, String> {
+    // 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 조회
+    @Query(value = "SELECT COUNT(*) FROM stock_delta_flushes WHERE batch_id = :batchId FOR SHARE", nativeQuery = true)
+    long countByBatchIdForShare(@Param("batchId") String batchId);
+
+    @Modifying
+    @Query("DELETE FROM StockDeltaFlush f WHERE f.flushedAt < :before")
+    int deleteFlushedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.product.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.hhplus.be.server.product.domain.StockHold;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockHoldJpaRepository extends JpaRepository<StockHold, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM StockHold h WHERE h.orderId = :orderId ORDER BY h.productId")
+    List<StockHold> findByOrderIdWithLock(@Param("orderId") Long orderId);
+
+    // SELECT ... FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT h FROM StockHold h WHERE h.holdStatus = kr.hhplus.be.server.product.domain.StockHoldStatus.HELD " +
+            "AND h.expiresAt < :now ORDER BY h.expiresAt")
+    List<StockHold> findExpiredHoldsWithLock(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT DISTINCT h.productId FROM StockHold h WHERE h.expiresAt > :now")
+    List<Long> findProductIdsWithUnexpiredHolds(@Param("now") LocalDateTime now);
+
+    @Query("SELECT h FROM StockHold h WHERE h.holdStatus = kr.hhplus.be.server.product.domain.StockHoldStatus.HELD " +
+            "AND h.expiresAt > :now")
+    List<StockHold> findUnexpiredHeldHolds(@Param("now") LocalDateTime now);
+}
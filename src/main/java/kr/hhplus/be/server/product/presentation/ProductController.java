@@ -1,13 +1,25 @@
 package kr.hhplus.be.server.product.presentation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.product.application.ProductSalesService;
 import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.StockHoldService;
+import kr.hhplus.be.server.product.domain.StockMode;
 import kr.hhplus.be.server.product.domain.dto.response.ProductDetailResponse;
-import kr.hhplus.be.server.product.domain.dto.response.ProductResponse;
+import kr.hhplus.be.server.product.domain.dto.response.ProductPageResponse;
 import kr.hhplus.be.server.product.domain.dto.response.TopProductResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,13 +27,44 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final StockHoldService stockHoldService;
+    private final ProductSalesService productSalesService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.stock-mode:LOCK}")
+    private StockMode stockMode;
 
     /**
-     * 상품 목록 조회
+     * 상품 목록 조회 - 전체 상품 JSON 배열 (DB 결과를 한 행씩 바로 응답)
      */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getProducts() {
-        List<ProductResponse> products = productService.getProducts();
+    public ResponseEntity<StreamingResponseBody> getProducts() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                productService.streamProducts(product -> {
+                    try {
+                        generator.writeObject(product);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 상품 목록 페이지 조회 (product_id 커서 기반, 이전 응답의 nextCursor 를 cursor 로 전달)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ProductPageResponse> getProductPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductPageResponse products = productService.getProductPage(cursor, size);
         return ResponseEntity.ok(products);
     }
 
@@ -41,7 +84,10 @@ public class ProductController {
     public ResponseEntity<Boolean> checkStock(
             @PathVariable Long productId,
             @RequestParam int quantity) {
-        boolean hasStock = productService.checkStock(productId, quantity);
+        // 재고 점유 방식에서는 점유 중인 수량을 제외한 재고로 확인
+        boolean hasStock = stockMode == StockMode.HOLD
+                ? stockHoldService.checkAvailableStock(productId, quantity)
+                : productService.checkStock(productId, quantity);
         return ResponseEntity.ok(hasStock);
     }
 
@@ -57,11 +103,34 @@ public class ProductController {
     }
 
     /**
-     * 최근 3일간 가장 많이 팔린 상위 5개 상품 조회
+     * 재고 분할 적용 (인기 상품)
+     */
+    @PostMapping("/{productId}/stock/shards")
+    public ResponseEntity<Void> enableStockSharding(
+            @PathVariable Long productId,
+            @RequestParam int shardCount) {
+        productService.enableStockSharding(productId, shardCount);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 최근 days 일간 가장 많이 팔린 상위 limit 개 상품 조회 (기본 3일, 5개)
      */
     @GetMapping("/top-selling")
-    public ResponseEntity<List<TopProductResponse>> getTopSellingProducts() {
-        List<TopProductResponse> topProducts = productService.getTopSellingProducts();
+    public ResponseEntity<List<TopProductResponse>> getTopSellingProducts(
+            @RequestParam(defaultValue = "3") int days,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<TopProductResponse> topProducts = productService.getTopSellingProducts(days, limit);
         return ResponseEntity.ok(topProducts);
     }
+
+    /**
+     * 일간 판매 집계 재생성 (from 이후 주문 이력으로 백필)
+     */
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<Integer> rebuildSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        int rows = productSalesService.rebuild(from);
+        return ResponseEntity.ok(rows);
+    }
 }
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryOutboxRepository;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 대기 행(point_history_outbox)을 user_point_histories 에 일괄 저장 (point.history.async-write=true)
+ * 저장과 대기 행 삭제를 한 트랜잭션으로 처리하므로 저장 전에 서버가 내려가도 다음 주기나 다른 서버가 다시 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointHistoryFlusher {
+    private final PointHistoryOutboxRepository pointHistoryOutboxRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.history.async-write:false}")
+    private boolean asyncWrite;
+
+    @Value("${point.history.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${point.history.flush-interval-ms:200}")
+    public void flush() {
+        if (!asyncWrite) {
+            return;
+        }
+        try {
+            Integer flushed = transactionTemplate.execute(status -> flushBatch());
+            if (flushed != null && flushed > 0) {
+                log.debug("포인트 이력 일괄 저장: {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("포인트 이력 일괄 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 저장에 실패하면 대기 행 삭제도 함께 롤백되어 다음 주기에 다시 저장
+    private int flushBatch() {
+        List<PointHistoryOutbox> outboxes = pointHistoryOutboxRepository.findOldestWithLock(batchSize);
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+        pointHistoryRepository.saveAllInBatch(outboxes.stream().map(PointHistoryOutbox::toHistory).toList());
+        pointHistoryOutboxRepository.deleteAll(outboxes);
+        return outboxes.size();
+    }
+}
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.user.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 미반영 포인트 이력을 users.point_balance 에 주기적으로 반영 (LEDGER)
+ * point.mode=LEDGER 일 때만 등록한다 - ENTITY 에서는 미반영 이력이 생기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.mode", havingValue = "LEDGER")
+@RequiredArgsConstructor
+public class PointLedgerCompactor {
+    private final PointLedgerService pointLedgerService;
+
+    @Value("${point.ledger.compact-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${point.ledger.compact-interval-ms:1000}")
+    public void compact() {
+        try {
+            // 한 번에 batchSize 씩, 밀린 이력이 없을 때까지 반영
+            while (pointLedgerService.compact(batchSize) == batchSize) {
+                log.debug("포인트 이력 잔액 반영 계속");
+            }
+        } catch (Exception e) {
+            log.error("포인트 이력 잔액 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.common.exception.InsufficientBalanceException;
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.PointLedgerStatus;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.domain.dto.response.PointBalanceResponse;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerCacheRepository;
+import kr.hhplus.be.server.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 이력 우선(LEDGER) 포인트 서비스
+ * 충전/사용은 잔액 미반영 이력만 추가하고 사용자 행을 잠그거나 변경하지 않는다.
+ * 잔액 확인은 Redis 잔액(DB 잔액 + 미반영 이력 합계) 스크립트 한 번으로 처리하고,
+ * 미반영 이력은 PointLedgerCompactor 가 주기적으로 users.point_balance 에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+    private final PointLedgerCacheRepository pointLedgerCacheRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserRepository userRepository;
+
+    // 포인트 잔액 조회 (미반영 이력 포함)
+    public PointBalanceResponse getPointBalance(Long userId) {
+        int balance = pointLedgerCacheRepository.getBalance(userId)
+                .orElseGet(() -> loadBalance(userId));
+        return new PointBalanceResponse(balance);
+    }
+
+    // 포인트 충전
+    @Transactional
+    public void chargePoint(Long userId, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        apply(userId, amount);
+        pointHistoryRepository.save(PointHistory.createPendingChargeHistory(userId, amount));
+    }
+
+    // 포인트 사용
+    @Transactional
+    public void usePoint(Long userId, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        }
+        apply(userId, -amount);
+        pointHistoryRepository.save(PointHistory.createPendingUseHistory(userId, amount));
+    }
+
+    /**
+     * 잔액 미반영 이력을 사용자 잔액에 반영 - 반영한 이력 수 반환
+     * 이력은 SKIP LOCKED 로 잠가서 가져오므로 여러 서버가 동시에 실행해도 같은 이력을 두 번 반영하지 않는다.
+     */
+    @Transactional
+    public int compact(int batchSize) {
+        List<PointHistory> histories = pointHistoryRepository.findUnappliedWithLock(batchSize);
+        if (histories.isEmpty()) {
+            return 0;
+        }
+
+        // 사용자 ID 순서로 반영 - 여러 서버의 compact 가 사용자 행을 서로 다른 순서로 잠가 데드락 나지 않도록
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (PointHistory history : histories) {
+            deltas.merge(history.getUserId(), history.getAmount(), Integer::sum);
+        }
+        // 반영하면 잔액이 음수가 되는 사용자의 이력은 미반영으로 남기고 다음 주기에 다시 시도
+        Set<Long> rejectedUserIds = new HashSet<>();
+        deltas.forEach((userId, delta) -> {
+            if (!userRepository.applyPointDelta(userId, delta)) {
+                rejectedUserIds.add(userId);
+                log.error("포인트 이력 잔액 반영 거부 - 잔액 부족, 사용자: {}, 변화량: {}", userId, delta);
+            }
+        });
+        List<Long> appliedIds = histories.stream()
+                .filter(history -> !rejectedUserIds.contains(history.getUserId()))
+                .map(PointHistory::getPointHistoryId)
+                .toList();
+        if (!appliedIds.isEmpty()) {
+            pointHistoryRepository.markApplied(appliedIds);
+        }
+
+        log.debug("포인트 이력 잔액 반영 - 이력: {}건, 사용자: {}명", appliedIds.size(), deltas.size() - rejectedUserIds.size());
+        return appliedIds.size();
+    }
+
+    private void apply(Long userId, int delta) {
+        PointLedgerStatus status = pointLedgerCacheRepository.apply(userId, delta, User.MAX_POINT_BALANCE);
+        if (status == PointLedgerStatus.NOT_LOADED) {
+            loadBalance(userId);
+            status = pointLedgerCacheRepository.apply(userId, delta, User.MAX_POINT_BALANCE);
+        }
+
+        switch (status) {
+            case INSUFFICIENT -> throw new InsufficientBalanceException("포인트가 부족합니다.");
+            case LIMIT_EXCEEDED -> throw new IllegalArgumentException("최대 포인트 한도(" + User.MAX_POINT_BALANCE + ")를 초과할 수 없습니다.");
+            case NOT_LOADED -> throw new IllegalStateException("포인트 잔액을 불러오지 못했습니다. id=" + userId);
+            case APPLIED -> {
+                // 트랜잭션 롤백 시 반영한 변화량 되돌림
+                TransactionHooks.afterRollback(() -> pointLedgerCacheRepository.revert(userId, delta));
+            }
+        }
+    }
+
+    // DB 잔액 + 미반영 이력 합계로 Redis 잔액 초기화 (compact 가 끼어들지 않도록 한 번의 조회로 읽음)
+    private int loadBalance(Long userId) {
+        int balance = userRepository.findLedgerBalance(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId));
+        pointLedgerCacheRepository.initialize(userId, balance);
+        return pointLedgerCacheRepository.getBalance(userId).orElse(balance);
+    }
+}
@@ -1,22 +1,42 @@
 package kr.hhplus.be.server.user.application;
 
 import kr.hhplus.be.server.common.exception.EntityNotFoundException;
+import kr.hhplus.be.server.common.exception.InsufficientBalanceException;
+import kr.hhplus.be.server.common.lock.ConcurrencyContext;
+import kr.hhplus.be.server.common.lock.ConcurrencyStrategy;
+import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.user.domain.PointBalance;
 import kr.hhplus.be.server.user.domain.PointHistory;
 import kr.hhplus.be.server.user.domain.dto.response.PointBalanceResponse;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryPageResponse;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse;
+import kr.hhplus.be.server.user.domain.repository.PointBalanceCacheRepository;
 import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserService {
+    private static final String POINT_DOMAIN = "point";
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointBalanceCacheRepository pointBalanceCacheRepository;
+
+    @Value("${point.balance-cache.enabled:true}")
+    private boolean balanceCacheEnabled;
 
     // 포인트 잔액 조회
     public PointBalanceResponse getPointBalance(Long userId) {
@@ -25,11 +45,55 @@ public class UserService {
 
         return new PointBalanceResponse(user.getPointBalance());
     }
-    // 포인트 충전
+
+    /**
+     * 포인트 이력 페이지 조회 - (created_at, point_history_id) 커서 이전의 이력을 최신순으로 최대 MAX_HISTORY_PAGE_SIZE 개까지 조회
+     * 오프셋 없이 인덱스 위치에서 바로 읽으므로 이력이 많아도 페이지 조회 비용이 일정하다.
+     */
+    public PointHistoryPageResponse getPointHistories(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<PointHistoryResponse> histories = pointHistoryRepository.findHistoryPage(userId, cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasNext = histories.size() > pageSize;
+        if (!hasNext) {
+            return new PointHistoryPageResponse(histories, null, null, false);
+        }
+
+        List<PointHistoryResponse> page = histories.subList(0, pageSize);
+        PointHistoryResponse last = page.get(pageSize - 1);
+        return new PointHistoryPageResponse(page, last.getCreatedAt(), last.getPointHistoryId(), true);
+    }
+
+    /**
+     * 포인트 잔액 조회 (캐시 우선)
+     * 잔액 변경은 커밋 후 캐시에 반영되고 (PointBalanceCacheWriter), 캐시에 없으면 잔액/버전만 DB 에서 읽어 채운다.
+     */
+    public PointBalanceResponse getCachedPointBalance(Long userId) {
+        if (!balanceCacheEnabled) {
+            return getPointBalance(userId);
+        }
+        Optional<Integer> cached = pointBalanceCacheRepository.getBalance(userId);
+        if (cached.isPresent()) {
+            return new PointBalanceResponse(cached.get());
+        }
+
+        PointBalance balance = userRepository.findPointBalance(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId));
+        pointBalanceCacheRepository.put(userId, balance);
+        return new PointBalanceResponse(balance.balance());
+    }
+    // 포인트 충전 - point 도메인 동시성 전략 적용 (기본: 비관적 락)
     @Transactional
+    @DistributedLock(key = "USER:#userId", domain = POINT_DOMAIN, strategy = ConcurrencyStrategy.DB_PESSIMISTIC,
+            supports = {ConcurrencyStrategy.REDIS, ConcurrencyStrategy.LOCAL, ConcurrencyStrategy.DB_PESSIMISTIC,
+                    ConcurrencyStrategy.OPTIMISTIC_RETRY, ConcurrencyStrategy.ATOMIC_SQL})
     public void chargePoint(Long userId, int amount){
-        User user = userRepository.findById(userId)
-                .orElseThrow(()-> new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId));
+        if (ConcurrencyContext.is(ConcurrencyStrategy.ATOMIC_SQL)) {
+            chargePointAtomically(userId, amount);
+            return;
+        }
+        User user = findUserForUpdate(userId);
 
         // 포인트 충전
         user.chargePoint(amount);
@@ -40,11 +104,17 @@ public class UserService {
         pointHistoryRepository.save(history);
     }
 
-    // 포인트 사용
+    // 포인트 사용 - point 도메인 동시성 전략 적용 (기본: 비관적 락)
     @Transactional
+    @DistributedLock(key = "USER:#userId", domain = POINT_DOMAIN, strategy = ConcurrencyStrategy.DB_PESSIMISTIC,
+            supports = {ConcurrencyStrategy.REDIS, ConcurrencyStrategy.LOCAL, ConcurrencyStrategy.DB_PESSIMISTIC,
+                    ConcurrencyStrategy.OPTIMISTIC_RETRY, ConcurrencyStrategy.ATOMIC_SQL})
     public void usePoint(Long userId, int amount){
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId));
+        if (ConcurrencyContext.is(ConcurrencyStrategy.ATOMIC_SQL)) {
+            usePointAtomically(userId, amount);
+            return;
+        }
+        User user = findUserForUpdate(userId);
 
         // 포인트 사용
         user.usePoint(amount);
@@ -55,6 +125,51 @@ public class UserService {
         pointHistoryRepository.save(history);
     }
 
+    /**
+     * 조건부 UPDATE 로 포인트 충전 - 사용자 조회/락 없이 충전 후 잔액이 최대 한도 이하일 때만 반영
+     */
+    @Transactional
+    public void chargePointAtomically(Long userId, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        if (!userRepository.creditPoint(userId, amount, User.MAX_POINT_BALANCE)) {
+            ensureUserExists(userId);
+            throw new IllegalArgumentException("최대 포인트 한도(" + User.MAX_POINT_BALANCE + ")를 초과할 수 없습니다.");
+        }
+        pointHistoryRepository.save(PointHistory.createChargeHistory(userId, amount));
+    }
+
+    /**
+     * 조건부 UPDATE 로 포인트 사용 - 사용자 조회/락 없이 잔액이 사용 금액 이상일 때만 반영
+     */
+    @Transactional
+    public void usePointAtomically(Long userId, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        }
+        if (!userRepository.debitPoint(userId, amount)) {
+            ensureUserExists(userId);
+            throw new InsufficientBalanceException("포인트가 부족합니다.");
+        }
+        pointHistoryRepository.save(PointHistory.createUseHistory(userId, amount));
+    }
+
+    // 조건부 UPDATE 가 반영되지 않았을 때 사용자가 없는 경우를 구분
+    private void ensureUserExists(Long userId) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId);
+        }
+    }
+
+    // 비관적 락 전략이면 행 락을 잡고 조회, 그 외 전략은 Aspect 가 동시성을 보장하거나 버전으로 충돌을 감지
+    private User findUserForUpdate(Long userId) {
+        Optional<User> user = ConcurrencyContext.is(ConcurrencyStrategy.DB_PESSIMISTIC)
+                ? userRepository.findByIdWithPessimisticLock(userId)
+                : userRepository.findById(userId);
+        return user.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. id=" + userId));
+    }
+
     @Transactional
     public void chargePointWithPessimisticLock(Long userId, int amount) {
         // 비관적 락을 사용하여 사용자 조회
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.user.domain;
+
+/**
+ * 사용자 잔액과 버전 (캐시 갱신 순서 판단용)
+ */
+public record PointBalance(int balance, long version) {
+}
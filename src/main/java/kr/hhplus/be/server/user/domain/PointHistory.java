@@ -8,7 +8,15 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_point_histories")
+@Table(name = "user_point_histories",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_histories_event_id", columnNames = "event_id"),
+        indexes = {
+                @Index(name = "idx_point_histories_applied", columnList = "applied, point_history_id"),
+                @Index(name = "idx_point_histories_user_applied", columnList = "user_id, applied"),
+                // 사용자별 이력 조회 커서 순서 + 조회 컬럼 포함 (테이블 행을 읽지 않음)
+                @Index(name = "idx_point_histories_user_created",
+                        columnList = "user_id, created_at, point_history_id, amount, point_type")
+        })
 @Getter @Setter
 public class PointHistory {
     @Id
@@ -28,6 +36,14 @@ public class PointHistory {
     @Column(name = "created_at",  nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 사용자 잔액 반영 여부 (LEDGER 방식 이력은 false 로 추가되고 PointLedgerCompactor 가 반영 후 true)
+    @Column(name = "applied", nullable = false, columnDefinition = "bit not null default 1")
+    private Boolean applied = true;
+
+    // 비동기 저장 시 대기 행 ID - 같은 대기 행을 중복 저장하지 않기 위해 사용 (즉시 저장한 이력은 null)
+    @Column(name = "event_id", length = 32)
+    private String eventId;
+
     // 포인트 내역 생성 - 충전
     public static PointHistory createChargeHistory(Long userId, int amount) {
         PointHistory history = new PointHistory();
@@ -47,4 +63,18 @@ public class PointHistory {
         history.setCreatedAt(LocalDateTime.now());
         return history;
     }
+
+    // 잔액 미반영 이력 생성 - 충전 (LEDGER)
+    public static PointHistory createPendingChargeHistory(Long userId, int amount) {
+        PointHistory history = createChargeHistory(userId, amount);
+        history.setApplied(false);
+        return history;
+    }
+
+    // 잔액 미반영 이력 생성 - 사용 (LEDGER)
+    public static PointHistory createPendingUseHistory(Long userId, int amount) {
+        PointHistory history = createUseHistory(userId, amount);
+        history.setApplied(false);
+        return history;
+    }
 }
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.user.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 저장 대기 행 (point.history.async-write=true)
+ * 포인트 변경과 같은 트랜잭션에 보조 인덱스 없는 이 테이블에만 추가하고,
+ * PointHistoryFlusher 가 user_point_histories 로 옮기면서 같은 트랜잭션에 삭제한다.
+ */
+@Entity
+@Table(name = "point_history_outbox")
+@Getter @Setter
+@NoArgsConstructor
+public class PointHistoryOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Column(name = "point_type", nullable = false)
+    private String pointType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static PointHistoryOutbox from(PointHistory history) {
+        PointHistoryOutbox outbox = new PointHistoryOutbox();
+        outbox.setUserId(history.getUserId());
+        outbox.setAmount(history.getAmount());
+        outbox.setPointType(history.getPointType());
+        outbox.setCreatedAt(history.getCreatedAt());
+        return outbox;
+    }
+
+    // 저장할 이력 - 대기 행 ID 를 eventId 로 사용
+    public PointHistory toHistory() {
+        PointHistory history = new PointHistory();
+        history.setEventId("outbox-" + outboxId);
+        history.setUserId(userId);
+        history.setAmount(amount);
+        history.setPointType(pointType);
+        history.setCreatedAt(createdAt);
+        return history;
+    }
+}
@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.user.domain;
+
+/**
+ * Redis 포인트 잔액 스크립트 실행 결과
+ */
+public enum PointLedgerStatus {
+    APPLIED,
+    INSUFFICIENT,   // 잔액 부족
+    LIMIT_EXCEEDED, // 최대 포인트 한도 초과
+    NOT_LOADED      // 잔액 미초기화
+}
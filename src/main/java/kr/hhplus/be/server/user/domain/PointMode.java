@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.user.domain;
+
+public enum PointMode {
+    ENTITY, // 사용자 잔액을 직접 변경 (point 도메인 동시성 전략 적용, 기본)
+    LEDGER  // 포인트 이력만 추가하고 잔액은 Redis 잔액으로 확인, PointLedgerCompactor 가 잔액에 반영
+}
@@ -24,11 +24,13 @@ public class User {
     @Column(name = "point_balance", nullable = false)
     private Integer pointBalance = 0;
 
-//    @Version
-//    private Long version;
+    // OPTIMISTIC_RETRY 전략용 버전 (기존 행은 0으로 시작)
+    @Version
+    @Column(name = "version", columnDefinition = "bigint not null default 0")
+    private Long version;
 
     // 최대 포인트 한도 상수
-    private static final int MAX_POINT_BALANCE = 1000000;
+    public static final int MAX_POINT_BALANCE = 1000000;
 
     // 포인트 충전
     public void chargePoint(int amount){
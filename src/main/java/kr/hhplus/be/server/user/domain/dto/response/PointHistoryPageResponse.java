@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.user.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PointHistoryPageResponse {
+    private final List<PointHistoryResponse> histories;
+    // 다음 페이지 조회 시 전달할 커서 (마지막 이력의 생성 시각과 ID)
+    private final LocalDateTime nextCursorCreatedAt;
+    private final Long nextCursorId;
+    private final boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.user.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 조회 결과 - JPQL 생성자 표현식으로 바로 생성 (엔티티를 만들지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class PointHistoryResponse {
+    private final Long pointHistoryId;
+    private final Integer amount;
+    private final String pointType;
+    private final LocalDateTime createdAt;
+}
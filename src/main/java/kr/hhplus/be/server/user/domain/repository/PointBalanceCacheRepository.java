@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.user.domain.repository;
+
+import kr.hhplus.be.server.user.domain.PointBalance;
+
+import java.util.Optional;
+
+public interface PointBalanceCacheRepository {
+    Optional<Integer> getBalance(Long userId);
+
+    // 저장된 버전보다 새 버전일 때만 저장 - 늦게 도착한 이전 잔액이 최신 잔액을 덮어쓰지 않도록 함
+    boolean put(Long userId, PointBalance balance);
+}
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.user.domain.repository;
+
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+
+import java.util.List;
+
+public interface PointHistoryOutboxRepository {
+    // 호출한 트랜잭션에 대기 행 추가
+    void save(PointHistoryOutbox outbox);
+
+    // 오래된 순으로 잠가서 조회 (SKIP LOCKED - 여러 서버가 같은 행을 옮기지 않음)
+    List<PointHistoryOutbox> findOldestWithLock(int limit);
+
+    void deleteAll(List<PointHistoryOutbox> outboxes);
+}
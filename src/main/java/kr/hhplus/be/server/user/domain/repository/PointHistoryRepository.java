@@ -1,7 +1,22 @@
 package kr.hhplus.be.server.user.domain.repository;
 
 import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PointHistoryRepository{
     void save(PointHistory history);
+
+    // 대기열에서 읽은 이력 일괄 저장 (이미 저장된 eventId 는 무시)
+    void saveAllInBatch(List<PointHistory> histories);
+
+    // 다른 트랜잭션이 잠근 이력은 건너뛰고 잔액 미반영 이력을 잠가서 조회
+    List<PointHistory> findUnappliedWithLock(int limit);
+
+    void markApplied(List<Long> pointHistoryIds);
+
+    // 사용자 이력 최신순 조회 - 커서가 없으면 첫 페이지, 있으면 (cursorCreatedAt, cursorId) 이전 이력
+    List<PointHistoryResponse> findHistoryPage(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
 }
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.user.domain.repository;
+
+import kr.hhplus.be.server.user.domain.PointLedgerStatus;
+
+import java.util.Optional;
+
+public interface PointLedgerCacheRepository {
+    // 잔액이 없을 때만 DB 잔액 + 미반영 이력 합계로 초기화
+    boolean initialize(Long userId, int balance);
+
+    Optional<Integer> getBalance(Long userId);
+
+    // 잔액 확인과 변경을 하나의 스크립트로 처리 (0 이상, 최대 한도 이하일 때만 반영)
+    PointLedgerStatus apply(Long userId, int delta, int maxBalance);
+
+    // 반영한 변화량 되돌리기 (트랜잭션 롤백 시)
+    void revert(Long userId, int delta);
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.user.domain.repository;
 
+import kr.hhplus.be.server.user.domain.PointBalance;
 import kr.hhplus.be.server.user.domain.User;
 
 import java.util.Optional;
@@ -9,4 +10,17 @@ public interface UserRepository {
     Optional<User> findById(Long userId);
 
     Optional<User> findByIdWithPessimisticLock(Long userId);
+
+    Optional<PointBalance> findPointBalance(Long userId);
+
+    // 잔액 + 잔액 미반영 이력 합계 (한 번의 조회)
+    Optional<Integer> findLedgerBalance(Long userId);
+
+    // 잔액에 변화량 반영 - 반영 후 잔액이 음수가 되면 반영하지 않고 false
+    boolean applyPointDelta(Long userId, int delta);
+
+    // 조건부 UPDATE 한 번으로 차감/충전 - 반영됐으면 true
+    boolean debitPoint(Long userId, int amount);
+
+    boolean creditPoint(Long userId, int amount, int maxBalance);
 }
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import kr.hhplus.be.server.user.domain.PointBalance;
+import kr.hhplus.be.server.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 저장/변경 시 커밋 후 잔액 캐시 갱신
+ * 도메인 엔티티가 이 클래스를 참조하지 않도록 META-INF/orm.xml 에서 User 에 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCacheListener {
+    private final PointBalanceCacheWriter pointBalanceCacheWriter;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        long version = user.getVersion() == null ? 0 : user.getVersion();
+        pointBalanceCacheWriter.writeAfterCommit(user.getUserId(), new PointBalance(user.getPointBalance(), version));
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.user.domain.PointBalance;
+import kr.hhplus.be.server.user.domain.repository.PointBalanceCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 캐시
+ * POINT:BALANCE:{userId} (hash) - balance, version (users.version)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceCacheRepositoryImpl implements PointBalanceCacheRepository {
+    private static final String BALANCE_KEY_PREFIX = "POINT:BALANCE:";
+
+    // KEYS[1] 잔액 hash / ARGV[1] 잔액, ARGV[2] 버전, ARGV[3] 만료 시간(ms)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'balance', ARGV[1], 'version', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${point.balance-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Override
+    public Optional<Integer> getBalance(Long userId) {
+        Object value = redisTemplate.opsForHash().get(balanceKey(userId), "balance");
+        return Optional.ofNullable(value).map(balance -> Integer.valueOf((String) balance));
+    }
+
+    @Override
+    public boolean put(Long userId, PointBalance balance) {
+        Long result = redisTemplate.execute(PUT_SCRIPT, List.of(balanceKey(userId)),
+                String.valueOf(balance.balance()), String.valueOf(balance.version()), String.valueOf(ttlSeconds * 1000));
+        return result != null && result == 1L;
+    }
+
+    private String balanceKey(Long userId) {
+        return BALANCE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.common.transaction.TransactionHooks;
+import kr.hhplus.be.server.user.domain.PointBalance;
+import kr.hhplus.be.server.user.domain.repository.PointBalanceCacheRepository;
+import kr.hhplus.be.server.user.infrastructure.repository.UserJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 변경을 커밋 후 잔액 캐시에 반영 (write-through)
+ * 엔티티 변경은 변경된 잔액/버전을 그대로 쓰고, 조건부 UPDATE 처럼 엔티티를 거치지 않는 변경은 커밋 후 DB 에서 다시 읽어 쓴다.
+ * 캐시 반영 실패는 잔액 변경 결과에 영향을 주지 않는다 (캐시 만료 후 DB 에서 다시 읽음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCacheWriter {
+    private final PointBalanceCacheRepository pointBalanceCacheRepository;
+    private final UserJpaRepository userJpaRepository;
+
+    @Value("${point.balance-cache.enabled:true}")
+    private boolean enabled;
+
+    public void writeAfterCommit(Long userId, PointBalance balance) {
+        if (enabled) {
+            TransactionHooks.afterCommit(() -> put(userId, balance));
+        }
+    }
+
+    public void refreshAfterCommit(Long userId) {
+        if (enabled) {
+            TransactionHooks.afterCommit(() -> userJpaRepository.findPointBalance(userId)
+                    .ifPresent(balance -> put(userId, balance)));
+        }
+    }
+
+    private void put(Long userId, PointBalance balance) {
+        try {
+            pointBalanceCacheRepository.put(userId, balance);
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 반영 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryOutboxRepository;
+import kr.hhplus.be.server.user.infrastructure.repository.PointHistoryOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryOutboxRepositoryImpl implements PointHistoryOutboxRepository {
+    private final PointHistoryOutboxJpaRepository pointHistoryOutboxJpaRepository;
+
+    @Override
+    public void save(PointHistoryOutbox outbox) {
+        pointHistoryOutboxJpaRepository.save(outbox);
+    }
+
+    @Override
+    public List<PointHistoryOutbox> findOldestWithLock(int limit) {
+        return pointHistoryOutboxJpaRepository.findOldestWithLock(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void deleteAll(List<PointHistoryOutbox> outboxes) {
+        if (!outboxes.isEmpty()) {
+            pointHistoryOutboxJpaRepository.deleteAllInBatch(outboxes);
+        }
+    }
+}
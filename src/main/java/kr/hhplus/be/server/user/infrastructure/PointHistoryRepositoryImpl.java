@@ -1,18 +1,84 @@
 package kr.hhplus.be.server.user.infrastructure;
 
 import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryOutboxRepository;
 import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
 import kr.hhplus.be.server.user.infrastructure.repository.PointHistoryJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
+    // 다시 옮겨진 이력은 event_id 유니크 제약으로 무시
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO user_point_histories (user_id, amount, point_type, created_at, applied, event_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
     private final PointHistoryJpaRepository pointHistoryJpaRepository;
+    private final PointHistoryOutboxRepository pointHistoryOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
 
+    @Value("${point.history.async-write:false}")
+    private boolean asyncWrite;
+
+    /**
+     * 이력 저장
+     * 비동기 저장을 켜면 보조 인덱스가 없는 대기 테이블(point_history_outbox)에 같은 트랜잭션으로 추가하고
+     * PointHistoryFlusher 가 user_point_histories 에 일괄 저장한다. 포인트 변경과 함께 커밋되므로 서버가 내려가도 이력이 빠지지 않는다.
+     * 잔액 미반영 이력(LEDGER)은 잔액 계산에 바로 쓰이므로 항상 즉시 저장한다.
+     */
     @Override
     public void save(PointHistory history) {
-        pointHistoryJpaRepository.save(history);
+        if (!asyncWrite || !history.getApplied()) {
+            pointHistoryJpaRepository.save(history);
+            return;
+        }
+        pointHistoryOutboxRepository.save(PointHistoryOutbox.from(history));
+    }
+
+    @Override
+    public List<PointHistoryResponse> findHistoryPage(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return pointHistoryJpaRepository.findHistoryPage(userId, PageRequest.of(0, limit));
+        }
+        return pointHistoryJpaRepository.findHistoryPageBefore(userId, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void saveAllInBatch(List<PointHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, history.getUserId());
+            ps.setInt(2, history.getAmount());
+            ps.setString(3, history.getPointType());
+            ps.setTimestamp(4, Timestamp.valueOf(history.getCreatedAt()));
+            ps.setBoolean(5, history.getApplied());
+            ps.setString(6, history.getEventId());
+        });
+    }
+
+    @Override
+    public List<PointHistory> findUnappliedWithLock(int limit) {
+        return pointHistoryJpaRepository.findUnappliedWithLock(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void markApplied(List<Long> pointHistoryIds) {
+        if (!pointHistoryIds.isEmpty()) {
+            pointHistoryJpaRepository.markApplied(pointHistoryIds);
+        }
     }
 }
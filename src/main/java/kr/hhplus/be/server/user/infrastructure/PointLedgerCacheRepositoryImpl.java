@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.user.domain.PointLedgerStatus;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 포인트 잔액 저장소 (LEDGER)
+ * POINT:LEDGER:{userId} - DB 잔액 + 잔액 미반영 이력 합계
+ * 만료 시간은 초기화할 때만 정하고 사용 시 연장하지 않는다. 커밋 전에 반영한 값이 되돌려지지 못해 어긋나도
+ * 만료 후 다시 초기화할 때 DB 잔액 + 미반영 이력 합계로 보정된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerCacheRepositoryImpl implements PointLedgerCacheRepository {
+    private static final String BALANCE_KEY_PREFIX = "POINT:LEDGER:";
+
+    // KEYS[1] 잔액 / ARGV[1] 변화량, ARGV[2] 최대 한도 (INCRBY 는 만료 시간을 유지)
+    // 반환값: 0 반영, 1 잔액 부족, 2 한도 초과, -1 잔액 없음
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local balance = redis.call('GET', KEYS[1])
+            if not balance then
+                return -1
+            end
+            local next = tonumber(balance) + tonumber(ARGV[1])
+            if next < 0 then
+                return 1
+            end
+            if next > tonumber(ARGV[2]) then
+                return 2
+            end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // 잔액이 만료됐으면 되돌리지 않음 (다시 초기화할 때 DB 기준으로 계산됨)
+    private static final RedisScript<Long> REVERT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('DECRBY', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${point.ledger.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Override
+    public boolean initialize(Long userId, int balance) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(balanceKey(userId), String.valueOf(balance), Duration.ofSeconds(ttlSeconds)));
+    }
+
+    @Override
+    public Optional<Integer> getBalance(Long userId) {
+        String value = redisTemplate.opsForValue().get(balanceKey(userId));
+        return Optional.ofNullable(value).map(Integer::valueOf);
+    }
+
+    @Override
+    public PointLedgerStatus apply(Long userId, int delta, int maxBalance) {
+        Long result = redisTemplate.execute(APPLY_SCRIPT, List.of(balanceKey(userId)),
+                String.valueOf(delta), String.valueOf(maxBalance));
+        if (result == null || result < 0) {
+            return PointLedgerStatus.NOT_LOADED;
+        }
+        return switch (result.intValue()) {
+            case 0 -> PointLedgerStatus.APPLIED;
+            case 1 -> PointLedgerStatus.INSUFFICIENT;
+            default -> PointLedgerStatus.LIMIT_EXCEEDED;
+        };
+    }
+
+    @Override
+    public void revert(Long userId, int delta) {
+        redisTemplate.execute(REVERT_SCRIPT, List.of(balanceKey(userId)), String.valueOf(delta));
+    }
+
+    private String balanceKey(Long userId) {
+        return BALANCE_KEY_PREFIX + userId;
+    }
+}
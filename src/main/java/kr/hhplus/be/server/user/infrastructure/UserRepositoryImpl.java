@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.user.infrastructure;
 
+import kr.hhplus.be.server.user.domain.PointBalance;
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.domain.repository.UserRepository;
 import kr.hhplus.be.server.user.infrastructure.repository.UserJpaRepository;
@@ -11,6 +12,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final UserJpaRepository userJpaRepository;
+    private final PointBalanceCacheWriter pointBalanceCacheWriter;
 
     @Override
     public Optional<User> findById(Long userId) {
@@ -21,4 +23,38 @@ public class UserRepositoryImpl implements UserRepository {
     public Optional<User> findByIdWithPessimisticLock(Long userId) {
         return userJpaRepository.findByIdWithPessimisticLock(userId);
     }
+
+    @Override
+    public Optional<PointBalance> findPointBalance(Long userId) {
+        return userJpaRepository.findPointBalance(userId);
+    }
+
+    @Override
+    public Optional<Integer> findLedgerBalance(Long userId) {
+        return userJpaRepository.findLedgerBalance(userId).map(Long::intValue);
+    }
+
+    // 아래 UPDATE 는 엔티티를 거치지 않으므로 커밋 후 잔액 캐시를 DB 기준으로 갱신
+    @Override
+    public boolean applyPointDelta(Long userId, int delta) {
+        return refreshIfUpdated(userId, userJpaRepository.applyPointDelta(userId, delta));
+    }
+
+    @Override
+    public boolean debitPoint(Long userId, int amount) {
+        return refreshIfUpdated(userId, userJpaRepository.debitPointIfEnough(userId, amount));
+    }
+
+    @Override
+    public boolean creditPoint(Long userId, int amount, int maxBalance) {
+        return refreshIfUpdated(userId, userJpaRepository.creditPointWithinLimit(userId, amount, maxBalance));
+    }
+
+    private boolean refreshIfUpdated(Long userId, int updated) {
+        if (updated == 0) {
+            return false;
+        }
+        pointBalanceCacheWriter.refreshAfterCommit(userId);
+        return true;
+    }
 }
@@ -1,7 +1,44 @@
 package kr.hhplus.be.server.user.infrastructure.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PointHistoryJpaRepository extends JpaRepository<PointHistory, Long> {
+    // SELECT ... FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT h FROM PointHistory h WHERE h.applied = false ORDER BY h.pointHistoryId")
+    List<PointHistory> findUnappliedWithLock(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PointHistory h SET h.applied = true WHERE h.pointHistoryId IN :ids")
+    int markApplied(@Param("ids") List<Long> ids);
+
+    // 사용자 이력 최신순 첫 페이지 (idx_point_histories_user_created 만으로 조회)
+    @Query("SELECT new kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse(h.pointHistoryId, h.amount, h.pointType, h.createdAt) " +
+            "FROM PointHistory h WHERE h.userId = :userId " +
+            "ORDER BY h.createdAt DESC, h.pointHistoryId DESC")
+    List<PointHistoryResponse> findHistoryPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 (createdAt, pointHistoryId) 보다 이전 이력
+    @Query("SELECT new kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse(h.pointHistoryId, h.amount, h.pointType, h.createdAt) " +
+            "FROM PointHistory h WHERE h.userId = :userId " +
+            "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.pointHistoryId < :pointHistoryId)) " +
+            "ORDER BY h.createdAt DESC, h.pointHistoryId DESC")
+    List<PointHistoryResponse> findHistoryPageBefore(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("pointHistoryId") Long pointHistoryId,
+                                                     Pageable pageable);
 }
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.user.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface PointHistoryOutboxJpaRepository extends JpaRepository<PointHistoryOutbox, Long> {
+    // SELECT ... FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM PointHistoryOutbox o ORDER BY o.outboxId")
+    List<PointHistoryOutbox> findOldestWithLock(Pageable pageable);
+}
@@ -1,10 +1,13 @@
 package kr.hhplus.be.server.user.infrastructure.repository;
 
 import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.user.domain.PointBalance;
 import kr.hhplus.be.server.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +16,32 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT u FROM User u WHERE u.userId = :userId")
     Optional<User> findByIdWithPessimisticLock(Long userId);
+
+    // 반영 후 잔액이 0 이상일 때만 반영 (버전도 함께 올려 OPTIMISTIC_RETRY 경로가 읽은 잔액과 충돌 감지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance + :delta, u.version = u.version + 1 " +
+            "WHERE u.userId = :userId AND u.pointBalance + :delta >= 0")
+    int applyPointDelta(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 잔액이 사용 금액 이상일 때만 차감 (버전도 함께 올려 OPTIMISTIC_RETRY 경로와 충돌 감지)
+    // 주문 트랜잭션 안에서 실행되므로 영속성 컨텍스트를 비우지 않음 - 비우면 호출자의 주문 엔티티가 준영속이 됨
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance - :amount, u.version = u.version + 1 " +
+            "WHERE u.userId = :userId AND u.pointBalance >= :amount")
+    int debitPointIfEnough(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 충전 후 잔액이 최대 한도 이하일 때만 충전
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance + :amount, u.version = u.version + 1 " +
+            "WHERE u.userId = :userId AND u.pointBalance + :amount <= :maxBalance")
+    int creditPointWithinLimit(@Param("userId") Long userId, @Param("amount") int amount, @Param("maxBalance") int maxBalance);
+
+    // 잔액 + 잔액 미반영 이력 합계 - 한 문장으로 읽어 같은 스냅샷 기준 (compact 와 겹쳐도 이중 반영/누락 없음)
+    @Query("SELECT u.pointBalance + COALESCE((SELECT SUM(h.amount) FROM PointHistory h " +
+            "WHERE h.userId = u.userId AND h.applied = false), 0) FROM User u WHERE u.userId = :userId")
+    Optional<Long> findLedgerBalance(@Param("userId") Long userId);
+
+    // 엔티티를 만들지 않고 잔액/버전만 조회
+    @Query("SELECT new kr.hhplus.be.server.user.domain.PointBalance(u.pointBalance, u.version) FROM User u WHERE u.userId = :userId")
+    Optional<PointBalance> findPointBalance(@Param("userId") Long userId);
 }
@@ -1,16 +1,27 @@
 package kr.hhplus.be.server.user.presentation;
 
+import kr.hhplus.be.server.user.application.PointLedgerService;
 import kr.hhplus.be.server.user.application.UserService;
+import kr.hhplus.be.server.user.domain.PointMode;
 import kr.hhplus.be.server.user.domain.dto.response.PointBalanceResponse;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryPageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final PointLedgerService pointLedgerService;
+
+    @Value("${point.mode:ENTITY}")
+    private PointMode pointMode;
 
     // 포인트 충전
     @PostMapping("/{userId}/points/charge")
@@ -18,7 +29,11 @@ public class UserController {
             @PathVariable Long userId,
             @RequestParam int amount) {
 
-        userService.chargePoint(userId, amount);
+        if (pointMode == PointMode.LEDGER) {
+            pointLedgerService.chargePoint(userId, amount);
+        } else {
+            userService.chargePoint(userId, amount);
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -28,14 +43,33 @@ public class UserController {
             @PathVariable Long userId,
             @RequestParam int amount) {
 
-        userService.usePoint(userId, amount);
+        if (pointMode == PointMode.LEDGER) {
+            pointLedgerService.usePoint(userId, amount);
+        } else {
+            userService.usePoint(userId, amount);
+        }
         return ResponseEntity.ok().build();
     }
 
     // 포인트 잔액 조회
     @GetMapping("/{userId}/points")
     public ResponseEntity<PointBalanceResponse> getPointBalance(@PathVariable Long userId) {
-        PointBalanceResponse response = userService.getPointBalance(userId);
+        PointBalanceResponse response = pointMode == PointMode.LEDGER
+                ? pointLedgerService.getPointBalance(userId)
+                : userService.getCachedPointBalance(userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 포인트 이력 조회 (최신순, 이전 응답의 nextCursorCreatedAt/nextCursorId 를 커서로 전달)
+     */
+    @GetMapping("/{userId}/points/history")
+    public ResponseEntity<PointHistoryPageResponse> getPointHistories(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        PointHistoryPageResponse response = userService.getPointHistories(userId, cursorCreatedAt, cursorId, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,5 @@
+-- 미리 생성된 미배정 쿠폰(POOLED) 지원: user_id 를 nullable 로 변경 (ddl-auto: update 는 기존 컬럼을 변경하지 않음)
+ALTER TABLE coupons MODIFY user_id BIGINT NULL;
+
+-- 정책별 미배정 쿠폰 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+CREATE INDEX idx_coupons_policy_status ON coupons (policy_id, coupon_status);
@@ -0,0 +1,3 @@
+-- 사용자별 정책당 쿠폰 1장 (중복 발급 최종 방지, 미배정 쿠폰은 user_id 가 NULL 이라 제약 대상 아님)
+-- 기존 중복 데이터가 있으면 먼저 정리해야 함
+ALTER TABLE coupons ADD CONSTRAINT uk_coupons_user_policy UNIQUE (user_id, policy_id);
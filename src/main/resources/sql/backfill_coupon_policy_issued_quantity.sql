@@ -0,0 +1,7 @@
+-- issued_quantity 컬럼 추가 전에 만들어진 정책의 발급 수량을 실제 발급된 쿠폰 수로 채운다
+-- COUNTER 발급(issued_quantity < total_quantity 조건부 UPDATE)으로 전환하기 전에 실행 (미배정 POOLED 쿠폰 제외)
+UPDATE coupon_policies cp
+SET cp.issued_quantity = (SELECT COUNT(*)
+                          FROM coupons c
+                          WHERE c.policy_id = cp.policy_id
+                            AND c.user_id IS NOT NULL);
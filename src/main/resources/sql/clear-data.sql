@@ -2,5 +2,6 @@ TRUNCATE TABLE order_items;
 TRUNCATE TABLE orders;
 TRUNCATE TABLE user_point_histories;
 TRUNCATE TABLE payments;
+TRUNCATE TABLE product_sales_daily;
 TRUNCATE TABLE products;
 TRUNCATE TABLE users;
\ No newline at end of file
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS product_sales_daily (
+    sales_daily_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id     BIGINT NOT NULL,
+    sales_date     DATE   NOT NULL,
+    order_count    INT    NOT NULL,
+    quantity       INT    NOT NULL,
+    CONSTRAINT uk_product_sales_daily_product_date UNIQUE (product_id, sales_date),
+    INDEX idx_product_sales_daily_sales_date (sales_date, product_id)
+);
+
+-- 기존 주문 이력 백필 (결제 완료 이후 상태만 집계)
+INSERT INTO product_sales_daily (product_id, sales_date, order_count, quantity)
+SELECT
+    oi.product_id,
+    DATE(o.ordered_at),
+    COUNT(DISTINCT o.order_id),
+    SUM(oi.order_item_qty)
+FROM
+    orders o
+JOIN
+    order_items oi ON oi.order_id = o.order_id
+WHERE
+    o.order_status NOT IN ('PENDING', 'CANCELED')
+GROUP BY
+    oi.product_id, DATE(o.ordered_at);
+
+DROP VIEW IF EXISTS top_products_3days;
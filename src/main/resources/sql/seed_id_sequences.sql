@@ -0,0 +1,18 @@
+-- orders / order_items / payments ID 를 시퀀스 테이블 할당으로 바꾸기 전 배포용 시드
+-- 시퀀스 값은 할당 블록(allocationSize = 50)의 상한이므로 기존 최대 ID + 50 이상으로 맞춘다 (IdSequenceInitializer 와 동일)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'orders', COALESCE(MAX(order_id), 0) + 50 FROM orders
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'order_items', COALESCE(MAX(order_item_id), 0) + 50 FROM order_items
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'payments', COALESCE(MAX(payment_id), 0) + 50 FROM payments
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
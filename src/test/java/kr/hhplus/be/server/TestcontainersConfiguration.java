@@ -26,7 +26,7 @@ public class TestcontainersConfiguration {
         REDIS_CONTAINER.start();
 
         // MySQL 시스템 프로퍼티 설정
-		System.setProperty("spring.datasource.url", MYSQL_CONTAINER.getJdbcUrl() + "?characterEncoding=UTF-8&serverTimezone=UTC");
+		System.setProperty("spring.datasource.url", MYSQL_CONTAINER.getJdbcUrl() + "?characterEncoding=UTF-8&serverTimezone=UTC&rewriteBatchedStatements=true");
 		System.setProperty("spring.datasource.username", MYSQL_CONTAINER.getUsername());
 		System.setProperty("spring.datasource.password", MYSQL_CONTAINER.getPassword());
 
@@ -34,6 +34,9 @@ public class TestcontainersConfiguration {
         System.setProperty("spring.redis.host", REDIS_CONTAINER.getHost());
         System.setProperty("spring.redis.port",
                 String.valueOf(REDIS_CONTAINER.getMappedPort(6379)));
+
+        // 테스트 데이터를 SQL로 직접 초기화하므로 상품 캐시는 사용하지 않음
+        System.setProperty("product.cache.enabled", "false");
 	}
 
 	@PreDestroy
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyStrategyRegistryTest {
+    private ConcurrencyStrategyRegistry registry;
+    private DistributedLock pointLock;
+
+    static class LockTarget {
+        @DistributedLock(key = "USER:#userId", domain = "point", strategy = ConcurrencyStrategy.DB_PESSIMISTIC,
+                supports = {ConcurrencyStrategy.REDIS, ConcurrencyStrategy.DB_PESSIMISTIC})
+        public void usePoint(Long userId) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        MockEnvironment environment = new MockEnvironment().withProperty("concurrency.strategy.point", "REDIS");
+        registry = new ConcurrencyStrategyRegistry(environment);
+        pointLock = LockTarget.class.getMethod("usePoint", Long.class).getAnnotation(DistributedLock.class);
+    }
+
+    @Test
+    @DisplayName("도메인 전략은 설정값을 우선 사용한다")
+    void resolveFromProperty() {
+        assertThat(registry.resolve(pointLock)).isEqualTo(ConcurrencyStrategy.REDIS);
+    }
+
+    @Test
+    @DisplayName("운영 중 변경한 전략이 다음 호출부터 적용되고 초기화하면 설정값으로 돌아간다")
+    void changeAndReset() {
+        // given
+        registry.resolve(pointLock);
+
+        // when
+        registry.change("point", ConcurrencyStrategy.DB_PESSIMISTIC);
+
+        // then
+        assertThat(registry.resolve(pointLock)).isEqualTo(ConcurrencyStrategy.DB_PESSIMISTIC);
+        registry.reset("point");
+        assertThat(registry.resolve(pointLock)).isEqualTo(ConcurrencyStrategy.REDIS);
+    }
+
+    @Test
+    @DisplayName("도메인이 지원하지 않는 전략으로는 변경할 수 없다")
+    void changeToUnsupportedStrategy() {
+        // given
+        registry.resolve(pointLock);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> registry.change("point", ConcurrencyStrategy.ATOMIC_SQL));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 도메인은 변경할 수 없다")
+    void changeUnregisteredDomain() {
+        assertThrows(IllegalArgumentException.class, () -> registry.change("unknown", ConcurrencyStrategy.REDIS));
+    }
+
+    @Test
+    @DisplayName("빈의 @DistributedLock 도메인은 첫 호출 전에도 변경할 수 있다")
+    void changeDomainRegisteredFromBean() {
+        // given
+        registry.postProcessAfterInitialization(new LockTarget(), "lockTarget");
+
+        // when
+        registry.change("point", ConcurrencyStrategy.DB_PESSIMISTIC);
+
+        // then
+        assertThat(registry.resolve(pointLock)).isEqualTo(ConcurrencyStrategy.DB_PESSIMISTIC);
+        assertThrows(IllegalArgumentException.class, () -> registry.change("point", ConcurrencyStrategy.ATOMIC_SQL));
+    }
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockStripesTest {
+
+    @Test
+    @DisplayName("같은 키의 로컬 락을 다른 스레드가 잡고 있으면 대기 시간 후 실패한다")
+    void tryLockHeldByOtherThread() throws Exception {
+        // given
+        LocalLockStripes localLocks = new LocalLockStripes(true, 16);
+        List<ReentrantLock> held = localLocks.tryLock(List.of("LOCK:PRODUCT:1"), 1, TimeUnit.SECONDS);
+
+        // when
+        List<ReentrantLock> other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return localLocks.tryLock(List.of("LOCK:PRODUCT:2", "LOCK:PRODUCT:1"), 50, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // then
+        assertThat(held).isNotEmpty();
+        assertThat(other).isNull();
+        localLocks.unlock(held);
+    }
+
+    @Test
+    @DisplayName("로컬 락 단계를 꺼도 직접 요청한 로컬 락은 잠근다")
+    void tryLockDisabled() throws InterruptedException {
+        // given
+        LocalLockStripes localLocks = new LocalLockStripes(false, 16);
+
+        // when
+        List<ReentrantLock> held = localLocks.tryLock(List.of("LOCK:PRODUCT:1"), 1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(localLocks.isEnabled()).isFalse();
+        assertThat(held).hasSize(1);
+        localLocks.unlock(held);
+    }
+}
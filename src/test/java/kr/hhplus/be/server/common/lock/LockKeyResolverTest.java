@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class LockKeyResolverTest {
+    private final LockKeyResolver lockKeyResolver = new LockKeyResolver();
+
+    static class LockTarget {
+        @DistributedLock(key = "USER:#userId:#userIdSuffix")
+        public void single(Long userId, String userIdSuffix) {
+        }
+
+        @DistributedLock(key = "multi:#productIds")
+        public void multi(List<Long> productIds) {
+        }
+    }
+
+    private MethodSignature signature(String methodName, String... parameterNames) throws NoSuchMethodException {
+        MethodSignature signature = mock(MethodSignature.class);
+        Class<?>[] parameterTypes = methodName.equals("single")
+                ? new Class<?>[]{Long.class, String.class}
+                : new Class<?>[]{List.class};
+        when(signature.getMethod()).thenReturn(LockTarget.class.getMethod(methodName, parameterTypes));
+        when(signature.getParameterNames()).thenReturn(parameterNames);
+        return signature;
+    }
+
+    @Test
+    @DisplayName("단일 락 키는 파라미터 이름을 긴 것부터 매칭해 인자 값으로 치환한다")
+    void resolveKey() throws NoSuchMethodException {
+        // given
+        LockKeyResolver.LockMetadata metadata = lockKeyResolver.metadata(signature("single", "userId", "userIdSuffix"));
+
+        // when
+        String key = lockKeyResolver.resolveKey(metadata, new Object[]{7L, "A"});
+
+        // then
+        assertThat(key).isEqualTo("LOCK:USER:7:A");
+    }
+
+    @Test
+    @DisplayName("메소드 메타데이터는 한 번만 만들어 재사용한다")
+    void metadataCached() throws NoSuchMethodException {
+        // given
+        MethodSignature signature = signature("single", "userId", "userIdSuffix");
+
+        // when
+        LockKeyResolver.LockMetadata first = lockKeyResolver.metadata(signature);
+        LockKeyResolver.LockMetadata second = lockKeyResolver.metadata(signature);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(signature, times(1)).getParameterNames();
+    }
+
+    @Test
+    @DisplayName("다중 락 키는 중복을 제거하고 상품 ID 순으로 정렬하며 같은 문자열을 재사용한다")
+    void resolveProductKeys() throws NoSuchMethodException {
+        // given
+        LockKeyResolver.LockMetadata metadata = lockKeyResolver.metadata(signature("multi", "productIds"));
+
+        // when
+        List<String> keys = lockKeyResolver.resolveProductKeys(metadata, new Object[]{List.of(3L, 1L, 2L, 3L)});
+        List<String> again = lockKeyResolver.resolveProductKeys(metadata, new Object[]{List.of(1L)});
+
+        // then
+        assertThat(keys).containsExactly("LOCK:PRODUCT:1", "LOCK:PRODUCT:2", "LOCK:PRODUCT:3");
+        assertThat(again.get(0)).isSameAs(keys.get(0));
+    }
+}
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private LockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMetrics = new LockMetrics(meterRegistry, 2, 5);
+    }
+
+    @Test
+    @DisplayName("락 대기/타임아웃/다중 락 키 수를 접두사 태그로 기록한다")
+    void recordByPrefix() {
+        // given
+        List<String> keys = List.of("LOCK:PRODUCT:1", "LOCK:PRODUCT:2");
+
+        // when
+        lockMetrics.recordAcquired(keys, TimeUnit.MILLISECONDS.toNanos(1));
+        lockMetrics.recordTimeout(keys, TimeUnit.SECONDS.toNanos(3));
+
+        // then
+        assertThat(meterRegistry.get("lock.acquire").tag("prefix", "LOCK:PRODUCT").tag("result", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.timeout").tag("prefix", "LOCK:PRODUCT").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.multi.keys").tag("prefix", "LOCK:PRODUCT").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("추적 용량을 넘어도 자주 경합하는 키는 상위 목록에 남는다")
+    void topContendedKeys() {
+        // given
+        long contendedWait = TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 5; i++) {
+            lockMetrics.recordAcquired(List.of("LOCK:PRODUCT:1"), contendedWait);
+        }
+        lockMetrics.recordAcquired(List.of("LOCK:PRODUCT:2"), contendedWait);
+        lockMetrics.recordAcquired(List.of("LOCK:PRODUCT:3"), contendedWait);
+        // 임계값 미만 대기는 경합으로 보지 않음
+        lockMetrics.recordAcquired(List.of("LOCK:PRODUCT:4"), TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when
+        List<ContendedKeys.ContendedKey> top = lockMetrics.topContendedKeys(1);
+
+        // then
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).key()).isEqualTo("LOCK:PRODUCT:1");
+        assertThat(top.get(0).contendedCount()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMultiLockTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @InjectMocks
+    private RedisMultiLock multiLock;
+
+    @Test
+    @DisplayName("모든 키를 한 번의 스크립트 호출로 잠근다")
+    void tryLockInSingleCall() throws InterruptedException {
+        // given
+        List<String> keys = List.of("LOCK:PRODUCT:1", "LOCK:PRODUCT:2");
+        when(redissonClient.getId()).thenReturn("client");
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), any(), any())).thenReturn(1L);
+
+        // when
+        boolean acquired = multiLock.tryLock(keys, 1, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(acquired).isTrue();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(keys), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 모든 키를 잠그지 못하면 false 를 반환한다")
+    void tryLockTimeout() throws InterruptedException {
+        // given
+        List<String> keys = List.of("LOCK:PRODUCT:1", "LOCK:PRODUCT:2");
+        when(redissonClient.getId()).thenReturn("client");
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), any(), any())).thenReturn(0L);
+
+        // when
+        boolean acquired = multiLock.tryLock(keys, 50, 3000, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+}
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.coupon.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
+import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponDuplicateFilterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private RBloomFilter<String> bloomFilter;
+
+    @Mock
+    private RBucket<String> readyMark;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponPolicy policy;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userId = 1L;
+
+        policy = new CouponPolicy();
+        policy.setPolicyId(1L);
+        policy.setTotalQuantity(100);
+    }
+
+    private CouponDuplicateFilter filter(boolean enabled, long maxBytesPerPolicy) {
+        CouponDuplicateFilter filter = new CouponDuplicateFilter(redissonClient, couponRepository, meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", enabled);
+        ReflectionTestUtils.setField(filter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(filter, "maxBytesPerPolicy", maxBytesPerPolicy);
+        filter.registerMetrics();
+        return filter;
+    }
+
+    private void givenReadyFilter() {
+        doReturn(readyMark).when(redissonClient).getBucket(anyString(), any());
+        doReturn(bloomFilter).when(redissonClient).getBloomFilter(anyString(), any());
+        when(readyMark.isExists()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 사용자는 DB 조회 없이 미발급으로 판단한다")
+    void alreadyIssued_ShouldSkipDatabase_WhenFilterNegative() {
+        // given
+        givenReadyFilter();
+        when(bloomFilter.contains("1")).thenReturn(false);
+
+        // when
+        boolean issued = filter(true, 1024).alreadyIssued(policy, userId);
+
+        // then
+        assertThat(issued).isFalse();
+        verify(couponRepository, never()).existsByUserIdAndPolicyId(any(), any());
+        assertThat(meterRegistry.get("coupon.bloom.check").tag("result", "negative").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터에 있지만 DB에 없으면 오탐으로 기록한다")
+    void alreadyIssued_ShouldRecordFalsePositive() {
+        // given
+        givenReadyFilter();
+        when(bloomFilter.contains("1")).thenReturn(true);
+        when(couponRepository.existsByUserIdAndPolicyId(userId, 1L)).thenReturn(false);
+
+        // when
+        boolean issued = filter(true, 1024).alreadyIssued(policy, userId);
+
+        // then
+        assertThat(issued).isFalse();
+        assertThat(meterRegistry.get("coupon.bloom.false_positive").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.bloom.false_positive.rate").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("필터를 끄면 항상 DB로 확인한다")
+    void alreadyIssued_ShouldQueryDatabase_WhenDisabled() {
+        // given
+        when(couponRepository.existsByUserIdAndPolicyId(userId, 1L)).thenReturn(true);
+
+        // when
+        boolean issued = filter(false, 1024).alreadyIssued(policy, userId);
+
+        // then
+        assertThat(issued).isTrue();
+        assertThat(meterRegistry.get("coupon.bloom.check").tag("result", "unavailable").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필요한 비트 수가 메모리 한도를 넘으면 오탐률을 높여 한도에 맞춘다")
+    void budgetedFalsePositiveRate_ShouldFitMemoryBudget() {
+        // given
+        CouponDuplicateFilter duplicateFilter = filter(true, 1024);
+
+        // when
+        double smallPolicyRate = duplicateFilter.budgetedFalsePositiveRate(100);
+        double largePolicyRate = duplicateFilter.budgetedFalsePositiveRate(100_000);
+
+        // then
+        assertThat(smallPolicyRate).isEqualTo(0.01);
+        assertThat(largePolicyRate).isGreaterThan(0.01).isLessThanOrEqualTo(0.5);
+    }
+}
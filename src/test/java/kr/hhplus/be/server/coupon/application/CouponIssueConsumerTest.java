@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.coupon.application;
+
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.repository.CouponIssueCacheRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    @Mock
+    private CouponIssueCacheRepository couponIssueCacheRepository;
+
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    @InjectMocks
+    private CouponIssueConsumer couponIssueConsumer;
+
+    private final CouponIssueEvent valid = new CouponIssueEvent("1-0", 1L, 1L, LocalDateTime.now());
+    private final CouponIssueEvent poison = new CouponIssueEvent("2-0", 1L, 2L, LocalDateTime.now());
+
+    @Test
+    @DisplayName("일괄 저장이 성공하면 모든 건을 확인하고 실패 대기열을 확인하지 않는다")
+    void consume_ShouldAcknowledgeAll_WhenBatchSaved() {
+        // given
+        when(couponIssueCacheRepository.readPending(anyInt())).thenReturn(List.of(valid, poison));
+        when(couponIssueService.persistIssued(List.of(valid, poison))).thenReturn(2);
+
+        // when
+        couponIssueConsumer.consume();
+
+        // then
+        verify(couponIssueCacheRepository).acknowledge(List.of("1-0", "2-0"));
+        verify(couponIssueCacheRepository, never()).deadLetter(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 건별로 저장해 성공 건만 확인하고 반복 실패 건은 실패 대기열로 옮긴다")
+    void consume_ShouldIsolatePoisonEvent_WhenBatchFails() {
+        // given
+        when(couponIssueCacheRepository.readPending(anyInt())).thenReturn(List.of(valid, poison));
+        when(couponIssueService.persistIssued(List.of(valid, poison))).thenThrow(new RuntimeException("저장 실패"));
+        when(couponIssueService.persistIssued(List.of(valid))).thenReturn(1);
+        when(couponIssueService.persistIssued(List.of(poison))).thenThrow(new RuntimeException("저장 실패"));
+
+        // when
+        couponIssueConsumer.consume();
+
+        // then
+        verify(couponIssueCacheRepository).acknowledge(List.of("1-0"));
+        verify(couponIssueCacheRepository, never()).acknowledge(List.of("2-0"));
+        verify(couponIssueCacheRepository).deadLetter(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,171 @@
+package kr.hhplus.be.server.coupon.application;
+
+import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.domain.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.domain.CouponIssueStatus;
+import kr.hhplus.be.server.coupon.domain.CouponPolicy;
+import kr.hhplus.be.server.coupon.domain.repository.CouponIssueCacheRepository;
+import kr.hhplus.be.server.coupon.domain.repository.CouponPolicyRepository;
+import kr.hhplus.be.server.coupon.domain.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueServiceTest {
+
+    @Mock
+    private CouponIssueCacheRepository couponIssueCacheRepository;
+
+    @Mock
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private CouponIssueService couponIssueService;
+
+    private Long policyId;
+    private Long userId;
+    private CouponPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policyId = 1L;
+        userId = 1L;
+
+        policy = new CouponPolicy();
+        policy.setPolicyId(policyId);
+        policy.setTotalQuantity(100);
+        policy.setExpiredDays(30);
+        policy.setDiscountAmount(1000);
+    }
+
+    @Test
+    @DisplayName("Redis에서 발급이 확정되면 DB를 조회하지 않는다")
+    void issue_ShouldNotQueryDatabase_WhenIssuedInRedis() {
+        // given
+        when(couponIssueCacheRepository.issue(policyId, userId)).thenReturn(CouponIssueStatus.ISSUED);
+
+        // when
+        couponIssueService.issue(policyId, userId);
+
+        // then
+        verify(couponPolicyRepository, never()).findById(any());
+        verify(couponRepository, never()).countByPolicyId(any());
+    }
+
+    @Test
+    @DisplayName("정책이 Redis에 없으면 DB 기준으로 적재 후 다시 발급한다")
+    void issue_ShouldLoadPolicy_WhenNotLoaded() {
+        // given
+        when(couponIssueCacheRepository.issue(policyId, userId))
+                .thenReturn(CouponIssueStatus.NOT_LOADED)
+                .thenReturn(CouponIssueStatus.ISSUED);
+        when(couponPolicyRepository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(couponRepository.findUserIdsByPolicyId(policyId)).thenReturn(List.of(2L, 3L));
+
+        // when
+        couponIssueService.issue(policyId, userId);
+
+        // then
+        verify(couponIssueCacheRepository).load(policyId, 98, List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("수량이 소진되면 예외가 발생한다")
+    void issue_ShouldThrowException_WhenSoldOut() {
+        // given
+        when(couponIssueCacheRepository.issue(policyId, userId)).thenReturn(CouponIssueStatus.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueService.issue(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("쿠폰이 모두 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자는 예외가 발생한다")
+    void issue_ShouldThrowException_WhenAlreadyIssued() {
+        // given
+        when(couponIssueCacheRepository.issue(policyId, userId)).thenReturn(CouponIssueStatus.ALREADY_ISSUED);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueService.issue(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+    }
+
+    @Test
+    @DisplayName("정책이 없으면 예외가 발생한다")
+    void issue_ShouldThrowException_WhenPolicyNotFound() {
+        // given
+        when(couponIssueCacheRepository.issue(policyId, userId)).thenReturn(CouponIssueStatus.NOT_LOADED);
+        when(couponPolicyRepository.findById(policyId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueService.issue(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("쿠폰 정책을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("이미 저장된 사용자의 발급 건은 다시 저장하지 않는다")
+    void persistIssued_ShouldSkipPersistedUsers() {
+        // given
+        List<CouponIssueEvent> events = List.of(
+                new CouponIssueEvent("1-0", policyId, 1L, LocalDateTime.now()),
+                new CouponIssueEvent("2-0", policyId, 2L, LocalDateTime.now()),
+                new CouponIssueEvent("3-0", policyId, 2L, LocalDateTime.now()));
+        when(couponPolicyRepository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(couponRepository.findUserIdsByPolicyIdAndUserIdIn(eq(policyId), anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        int saved = couponIssueService.persistIssued(events);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponRepository).saveAllInBatch(captor.capture());
+        assertThat(saved).isEqualTo(1);
+        assertThat(captor.getValue()).extracting(Coupon::getUserId).containsExactly(2L);
+        assertThat(captor.getValue().get(0).getCouponStatus()).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("대기열에서 저장하는 쿠폰의 만료일은 저장 시각이 아닌 발급 시각 기준이다")
+    void persistIssued_ShouldUseIssuedAtForExpiry() {
+        // given
+        LocalDateTime issuedAt = LocalDateTime.now().minusHours(1);
+        when(couponPolicyRepository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(couponRepository.findUserIdsByPolicyIdAndUserIdIn(eq(policyId), anyCollection())).thenReturn(List.of());
+
+        // when
+        couponIssueService.persistIssued(List.of(new CouponIssueEvent("1-0", policyId, userId, issuedAt)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponRepository).saveAllInBatch(captor.capture());
+        assertThat(captor.getValue().get(0).getExpiredAt()).isEqualTo(issuedAt.plusDays(30));
+    }
+}
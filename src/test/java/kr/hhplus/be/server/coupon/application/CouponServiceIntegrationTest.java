@@ -152,4 +152,23 @@ public class CouponServiceIntegrationTest {
         newUser.setPointBalance(5000);
         return userRepository.save(newUser);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("미배정 쿠폰이 함께 생성된 정책도 DB 발급 시 배정된 쿠폰만 수량에 포함한다")
+    void issueFirstComeCoupon_IgnoresPooledCoupons() {
+        // given
+        CouponPolicy policy = new CouponPolicy();
+        policy.setDiscountAmount(1000);
+        policy.setExpiredDays(30);
+        policy.setTotalQuantity(3);
+        CouponPolicy saved = couponService.createPolicyWithPool(policy);
+        User testUser = userRepository.findAll().get(0);
+
+        // when
+        Coupon coupon = couponService.issueFirstComeCoupon(saved.getPolicyId(), testUser.getUserId());
+
+        // then
+        assertThat(coupon.getUserId()).isEqualTo(testUser.getUserId());
+        assertThat(couponRepository.countByPolicyId(saved.getPolicyId())).isEqualTo(1);
+    }
+}
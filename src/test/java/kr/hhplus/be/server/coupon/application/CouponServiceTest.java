@@ -12,12 +12,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +32,9 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponDuplicateFilter couponDuplicateFilter;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -96,4 +102,92 @@ class CouponServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("이미 발급받은 쿠폰입니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("발급 수량 증가에 성공하면 COUNT 조회 없이 쿠폰이 발급된다")
+    void coupon_issued_with_counter() {
+        // given
+        when(couponPolicyRepository.increaseIssuedQuantity(policyId)).thenReturn(true);
+        when(couponDuplicateFilter.alreadyIssued(policy, userId)).thenReturn(false);
+        when(couponRepository.save(any(Coupon.class))).thenReturn(expectedCoupon);
+
+        // when
+        Coupon result = couponService.issueFirstComeCouponWithCounter(policyId, userId);
+
+        // then
+        assertThat(result.getCouponId()).isEqualTo(expectedCoupon.getCouponId());
+        verify(couponRepository, never()).countByPolicyId(any());
+        verify(couponDuplicateFilter).add(policyId, userId);
+    }
+
+    @Test
+    @DisplayName("발급 수량 증가에 실패하면 소진 예외가 발생한다")
+    void coupon_sold_out_with_counter() {
+        // given
+        when(couponPolicyRepository.increaseIssuedQuantity(policyId)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueFirstComeCouponWithCounter(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("쿠폰이 모두 소진되었습니다.");
+        verify(couponRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("미배정 쿠폰을 사용자에게 배정한다")
+    void pooled_coupon_assigned() {
+        // given
+        Coupon pooled = Coupon.createPooled(policy);
+        when(couponDuplicateFilter.alreadyIssued(policy, userId)).thenReturn(false);
+        when(couponRepository.findPooledCouponForUpdate(policyId)).thenReturn(Optional.of(pooled));
+
+        // when
+        Coupon result = couponService.issuePooledCoupon(policyId, userId);
+
+        // then
+        assertThat(result.getUserId()).isEqualTo(userId);
+        assertThat(result.getCouponStatus()).isEqualTo("AVAILABLE");
+        assertThat(result.getExpiredAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배정할 미배정 쿠폰이 없으면 소진 예외가 발생한다")
+    void pooled_coupon_sold_out() {
+        // given
+        when(couponDuplicateFilter.alreadyIssued(policy, userId)).thenReturn(false);
+        when(couponRepository.findPooledCouponForUpdate(policyId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issuePooledCoupon(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("쿠폰이 모두 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("중복 필터가 이미 발급으로 판단하면 미배정 쿠폰을 조회하지 않는다")
+    void pooled_coupon_already_issued() {
+        // given
+        when(couponDuplicateFilter.alreadyIssued(policy, userId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issuePooledCoupon(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+        verify(couponRepository, never()).findPooledCouponForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("동시 발급으로 유니크 제약에 걸리면 중복 발급 예외로 변환한다")
+    void coupon_duplicate_constraint_violation() {
+        // given
+        when(couponRepository.countByPolicyId(policyId)).thenReturn(0L);
+        when(couponRepository.existsByUserIdAndPolicyId(userId, policyId)).thenReturn(false);
+        when(couponRepository.save(any(Coupon.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '1-1' for key 'uk_coupons_user_policy'"));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueFirstComeCoupon(policyId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+    }
+}
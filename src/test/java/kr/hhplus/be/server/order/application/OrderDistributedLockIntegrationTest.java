@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.order.application;
 
 import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.common.lock.ConcurrencyStrategy;
+import kr.hhplus.be.server.common.lock.ConcurrencyStrategyRegistry;
 import kr.hhplus.be.server.order.domain.dto.request.OrderItemRequest;
 import kr.hhplus.be.server.order.domain.dto.request.OrderRequest;
 import kr.hhplus.be.server.order.domain.dto.response.OrderResponse;
@@ -38,6 +40,9 @@ public class OrderDistributedLockIntegrationTest {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ConcurrencyStrategyRegistry concurrencyStrategyRegistry;
+
     // ---------- Tests ----------
     @Test
     @DisplayName("단일 상품 - 동시 주문 테스트")
@@ -305,6 +310,55 @@ public class OrderDistributedLockIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("비관적 락 전략 - 재고 경쟁 테스트")
+    void pessimisticLock_productStockCompetition() throws InterruptedException {
+        // given
+        int threadCount = 10;
+        ConcurrencyTestContext ctx = new ConcurrencyTestContext(threadCount);
+        long productId = 1L;
+        int initialStock = getCurrentStock(productId);
+        concurrencyStrategyRegistry.change("stock", ConcurrencyStrategy.DB_PESSIMISTIC);
+
+        // when
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final long userId = i + 50;
+                ctx.executorService.submit(() -> {
+                    try {
+                        orderFacade.createOrder(createOrderRequest(userId, productId, 1));
+                        ctx.successCount.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        ctx.insufficientStockCount.incrementAndGet();
+                    } catch (Exception e) {
+                        ctx.failCount.incrementAndGet();
+                        log.error("사용자 {} 주문 실패, 오류: {}", userId, e.getMessage());
+                    } finally {
+                        ctx.latch.countDown();
+                    }
+                });
+            }
+
+            ctx.latch.await();
+            ctx.shutdown();
+        } finally {
+            concurrencyStrategyRegistry.reset("stock");
+        }
+
+        // then
+        int remainingStock = getCurrentStock(productId);
+
+        log.info("=== 비관적 락 전략 - 재고 경쟁 테스트 결과 ===");
+        log.info("성공: {}, 재고 부족: {}, 기타 실패: {}, 남은 재고: {}",
+                ctx.successCount.get(), ctx.insufficientStockCount.get(), ctx.failCount.get(), remainingStock);
+
+        // 락 전에 읽은 재고로 덮어쓰지 않으므로 성공한 주문 수만큼만 차감되고 초과 판매되지 않는다
+        assertThat(ctx.failCount.get()).isZero();
+        assertThat(initialStock - remainingStock).isEqualTo(ctx.successCount.get());
+        assertThat(ctx.successCount.get()).isEqualTo(Math.min(initialStock, threadCount));
+        assertThat(ctx.insufficientStockCount.get()).isEqualTo(threadCount - ctx.successCount.get());
+    }
+
     // ---------- 테스트 헬퍼 메서드 ----------
 
     /**
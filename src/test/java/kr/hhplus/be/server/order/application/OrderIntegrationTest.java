@@ -10,6 +10,8 @@ import kr.hhplus.be.server.order.domain.dto.request.OrderRequest;
 import kr.hhplus.be.server.order.domain.dto.response.OrderResponse;
 import kr.hhplus.be.server.testdata.OrderTestDataLoader;
 import kr.hhplus.be.server.testdata.ProductTestDataLoader;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.infrastructure.repository.UserJpaRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +36,9 @@ class OrderIntegrationTest {
     @Autowired
     private OrderFacade orderFacade;
 
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
     @Test
     @DisplayName("주문 조회 성공")
     void getOrder_Success() {
@@ -80,6 +85,26 @@ class OrderIntegrationTest {
         assertEquals(OrderTestDataLoader.PRODUCT_1_PRICE * 5, createdOrder.getTotalAmount());
     }
 
+    @Test
+    @DisplayName("포인트를 사용한 주문도 결제 완료 상태로 응답한다")
+    void createOrder_WithPoints_ReturnsPaid() {
+        // given
+        User user = new User();
+        user.setPointBalance(5000);
+        Long userId = userJpaRepository.save(user).getUserId();
+
+        OrderRequest request = createOrderRequest(userId, OrderTestDataLoader.PRODUCT_1_ID, 1);
+        request.setUsedAmount(500);
+
+        // when
+        OrderResponse response = orderFacade.createOrder(request);
+
+        // then
+        assertEquals(OrderStatus.PAID, response.getOrderStatus());
+        assertEquals(OrderStatus.PAID, orderService.getOrder(response.getOrderId()).getOrderStatus());
+        assertEquals(4500, userJpaRepository.findPointBalance(userId).orElseThrow().balance());
+    }
+
     @Test
     @DisplayName("재고 부족으로 주문 실패")
     void createOrder_InsufficientStock() {
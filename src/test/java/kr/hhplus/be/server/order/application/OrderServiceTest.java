@@ -102,10 +102,11 @@ public class OrderServiceTest {
     @DisplayName("주문 생성 성공")
     void createOrder_Success() {
         // given
-        Order newOrder = Order.createOrder(userId);
-        when(orderRepository.save(any(Order.class)))
-                .thenReturn(newOrder)  // 첫 번째 호출에서는 빈 주문 반환
-                .thenReturn(testOrder); // 두 번째 호출에서는 총액이 설정된 주문 반환
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order saved = invocation.getArgument(0);
+            saved.setOrderId(orderId);
+            return saved;
+        });
 
         // when
         Order result = orderService.createOrder(userId, testOrderItems);
@@ -113,8 +114,11 @@ public class OrderServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getUserId()).isEqualTo(userId);
-        verify(orderRepository, times(2)).save(any(Order.class)); // 2번 저장됨
-        verify(orderItemRepository, times(2)).save(any(OrderItem.class)); // 각 주문 항목 저장
+        assertThat(result.getTotalAmount()).isEqualTo(40000); // 저장 전에 총액 계산
+        assertThat(testOrderItems).allMatch(item -> orderId.equals(item.getOrderId()));
+        verify(orderRepository, times(1)).save(any(Order.class)); // 주문은 한 번만 저장
+        verify(orderItemRepository, times(1)).saveAll(testOrderItems); // 주문 항목 일괄 저장
+        verify(orderItemRepository, never()).save(any(OrderItem.class));
     }
 
     @Test
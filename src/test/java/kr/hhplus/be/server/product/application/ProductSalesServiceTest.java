@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.product.domain.ProductRank;
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductRankingRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSalesServiceTest {
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Mock
+    private ProductRankingRepository productRankingRepository;
+
+    @InjectMocks
+    private ProductSalesService productSalesService;
+
+    @Test
+    @DisplayName("판매 반영 시 상품 ID 순서로 주문 건수와 수량을 증가시킨다")
+    void recordSales() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        productSalesService.recordSales(Map.of(2L, 3, 1L, 5), today);
+
+        // then
+        InOrder inOrder = inOrder(productSalesDailyRepository);
+        inOrder.verify(productSalesDailyRepository).increase(1L, today, 1, 5);
+        inOrder.verify(productSalesDailyRepository).increase(2L, today, 1, 3);
+        verify(productRankingRepository).increaseScores(today, Map.of(2L, 3, 1L, 5));
+    }
+
+    @Test
+    @DisplayName("판매 취소 시 주문 건수와 수량을 차감한다")
+    void cancelSales() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        productSalesService.cancelSales(Map.of(1L, 5), today);
+
+        // then
+        verify(productSalesDailyRepository).increase(1L, today, -1, -5);
+        verify(productRankingRepository).increaseScores(today, Map.of(1L, -5));
+    }
+
+    @Test
+    @DisplayName("실시간 랭킹에서 판매 수량이 0 이하인 상품은 제외한다")
+    void getTopRanks() {
+        // given
+        when(productRankingRepository.findTopRanks(ProductSalesService.today(), 3, 5))
+                .thenReturn(List.of(new ProductRank(1L, 30L), new ProductRank(2L, 0L)));
+
+        // when
+        List<ProductRank> result = productSalesService.getTopRanks(3, 5);
+
+        // then
+        assertThat(result).containsExactly(new ProductRank(1L, 30L));
+    }
+
+    @Test
+    @DisplayName("오늘 포함 최근 기간의 일간 집계로 인기 상품을 조회한다")
+    void getTopProducts() {
+        // given
+        TopProductSales sales = new TopProductSales(1L, "테스트 상품", 10000, 100, 10L, 30L);
+        when(productSalesDailyRepository.findTopProducts(ProductSalesService.today().minusDays(2), 5)).thenReturn(List.of(sales));
+
+        // when
+        List<TopProductSales> result = productSalesService.getTopProducts(3, 5);
+
+        // then
+        assertThat(result).containsExactly(sales);
+    }
+
+    @Test
+    @DisplayName("랭킹 초기화 시 일간 집계를 날짜별로 묶어 비어 있는 일간 랭킹을 채운다")
+    void seedRanking() {
+        // given
+        LocalDate today = ProductSalesService.today();
+        when(productSalesDailyRepository.findFrom(today.minusDays(6))).thenReturn(List.of(
+                ProductSalesDaily.create(1L, today, 2, 5),
+                ProductSalesDaily.create(2L, today, 1, 3),
+                ProductSalesDaily.create(1L, today.minusDays(1), 1, 0),
+                ProductSalesDaily.create(3L, today.minusDays(2), 1, 4)));
+        when(productRankingRepository.seedScores(today, Map.of(1L, 5, 2L, 3))).thenReturn(true);
+        when(productRankingRepository.seedScores(today.minusDays(2), Map.of(3L, 4))).thenReturn(false);
+
+        // when
+        int seeded = productSalesService.seedRanking(7);
+
+        // then
+        assertThat(seeded).isEqualTo(1);
+        verify(productRankingRepository, never()).seedScores(eq(today.minusDays(1)), anyMap());
+    }
+}
@@ -40,7 +40,8 @@ public class ProductServiceIntegrationTest {
     @DisplayName("상품 목록 조회")
     void getProducts() {
         // when
-        List<ProductResponse> products = productService.getProducts();
+        List<ProductResponse> products = new ArrayList<>();
+        productService.streamProducts(products::add);
 
         // then
         assertThat(products).isNotEmpty();
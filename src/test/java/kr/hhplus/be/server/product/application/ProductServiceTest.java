@@ -1,11 +1,18 @@
 package kr.hhplus.be.server.product.application;
 
+import kr.hhplus.be.server.common.cache.RefreshAheadCache;
 import kr.hhplus.be.server.common.exception.InsufficientStockException;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductRank;
+import kr.hhplus.be.server.product.domain.ProductSnapshot;
+import kr.hhplus.be.server.product.domain.TopProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductCacheRepository;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
 import kr.hhplus.be.server.product.domain.dto.response.ProductDetailResponse;
+import kr.hhplus.be.server.product.domain.dto.response.ProductPageResponse;
 import kr.hhplus.be.server.product.domain.dto.response.ProductResponse;
+import kr.hhplus.be.server.product.domain.dto.response.TopProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +21,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -27,6 +38,18 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCacheRepository productCacheRepository;
+
+    @Mock
+    private ProductSalesService productSalesService;
+
+    @Mock
+    private RefreshAheadCache refreshAheadCache;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -78,7 +101,7 @@ public class ProductServiceTest {
 
     @Test
     @DisplayName("상품 목록 조회")
-    void getProducts() {
+    void streamProducts() {
         // given
         Product product2 = new Product();
         product2.setProductId(2L);
@@ -86,11 +109,12 @@ public class ProductServiceTest {
         product2.setProductPrice(20000);
         product2.setStockQty(200);
 
-        List<Product> productList = Arrays.asList(testProduct, product2);
-        when(productRepository.findAll()).thenReturn(productList);
+        when(shardedStockService.getShardStockQtys()).thenReturn(Map.of());
+        when(productRepository.streamAll()).thenReturn(Stream.of(testProduct, product2));
 
         // when
-        List<ProductResponse> result = productService.getProducts();
+        List<ProductResponse> result = new ArrayList<>();
+        productService.streamProducts(result::add);
 
         // then
         assertThat(result).hasSize(2);
@@ -104,7 +128,57 @@ public class ProductServiceTest {
         assertThat(result.get(1).getProductPrice()).isEqualTo(20000);
         assertThat(result.get(1).getStockQty()).isEqualTo(200);
 
-        verify(productRepository).findAll();
+        verify(productRepository).streamAll();
+    }
+
+    @Test
+    @DisplayName("커서 이후 상품을 페이지 크기만큼 조회하고 다음 커서를 반환한다")
+    void getProductPage() {
+        // given
+        when(productRepository.findIdsAfter(0L, 2)).thenReturn(List.of(productId, 2L));
+        when(productRepository.findAllById(List.of(productId))).thenReturn(List.of(testProduct));
+
+        // when
+        ProductPageResponse result = productService.getProductPage(null, 1);
+
+        // then
+        assertThat(result.getProducts()).hasSize(1);
+        assertThat(result.getProducts().get(0).getProductId()).isEqualTo(productId);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(productId);
+        verify(productCacheRepository).save(ProductSnapshot.from(testProduct));
+    }
+
+    @Test
+    @DisplayName("페이지 상품 정보는 캐시에 있으면 DB에서 조회하지 않는다")
+    void getProductPageFromCache() {
+        // given
+        when(productRepository.findIdsAfter(0L, 3)).thenReturn(List.of(productId, 2L));
+        when(productCacheRepository.findById(productId)).thenReturn(Optional.of(ProductSnapshot.from(testProduct)));
+        when(productCacheRepository.findById(2L)).thenReturn(Optional.of(ProductSnapshot.from(product2)));
+
+        // when
+        ProductPageResponse result = productService.getProductPage(null, 2);
+
+        // then
+        assertThat(result.getProducts()).extracting(ProductResponse::getProductId).containsExactly(productId, 2L);
+        assertThat(result.isHasNext()).isFalse();
+        verify(productRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대 100으로 제한된다")
+    void getProductPageWithMaxSize() {
+        // given
+        when(productRepository.findIdsAfter(2L, 101)).thenReturn(List.of());
+
+        // when
+        ProductPageResponse result = productService.getProductPage(2L, 1000);
+
+        // then
+        assertThat(result.getProducts()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
@@ -123,6 +197,22 @@ public class ProductServiceTest {
         assertThat(result.getStockQty()).isEqualTo(100);
 
         verify(productRepository).findById(productId);
+        verify(productCacheRepository).save(any(ProductSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("캐시된 상품은 DB를 조회하지 않는다")
+    void getProductByIdFromCache() {
+        // given
+        when(productCacheRepository.findById(productId)).thenReturn(Optional.of(ProductSnapshot.from(testProduct)));
+
+        // when
+        ProductDetailResponse result = productService.getProductById(productId);
+
+        // then
+        assertThat(result.getProductName()).isEqualTo("테스트 상품");
+        assertThat(result.getStockQty()).isEqualTo(100);
+        verify(productRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -198,4 +288,100 @@ public class ProductServiceTest {
         assertThat(product2.getStockQty()).isEqualTo(200); // 200 + 20
 
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 재고를 감소시킨다")
+    void decreaseStockWithConditionalUpdate() {
+        // given
+        when(productRepository.decreaseStockIfEnough(productId, 50)).thenReturn(1);
+
+        // when
+        productService.decreaseStockWithConditionalUpdate(productId, 50);
+
+        // then
+        verify(productRepository).decreaseStockIfEnough(productId, 50);
+        verify(productRepository, never()).findById(productId);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 반영 행이 없으면 재고 부족 예외가 발생한다")
+    void decreaseStockWithConditionalUpdateInsufficientStock() {
+        // given
+        when(productRepository.decreaseStockIfEnough(productId, 150)).thenReturn(0);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () ->
+                productService.decreaseStockWithConditionalUpdate(productId, 150));
+    }
+
+    @Test
+    @DisplayName("여러 상품 재고 일괄 감소 시 하나라도 반영되지 않으면 예외가 발생한다")
+    void decreaseStocksWithConditionalUpdatePartialFailure() {
+        // given
+        Map<Long, Integer> quantities = Map.of(1L, 10, 2L, 300);
+        when(productRepository.decreaseStocksIfEnough(quantities)).thenReturn(1);
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () ->
+                productService.decreaseStocksWithConditionalUpdate(quantities));
+    }
+
+    @Test
+    @DisplayName("실시간 판매 랭킹 상위 상품을 상품 정보와 함께 조회한다")
+    void getTopSellingProductsFromRanking() {
+        // given
+        when(productSalesService.getTopRanks(3, 5)).thenReturn(List.of(new ProductRank(productId, 30L)));
+        when(productCacheRepository.findById(productId)).thenReturn(Optional.of(ProductSnapshot.from(testProduct)));
+
+        // when
+        List<TopProductResponse> result = productService.getTopSellingProducts(3, 5);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getProductName()).isEqualTo("테스트 상품");
+        assertThat(result.get(0).getTotalQuantity()).isEqualTo(30L);
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품의 랭킹 조회 재고는 분할 카운터 재고를 합산한다")
+    void getTopSellingProductsWithShardedStock() {
+        // given
+        testProduct.setStockShardCount(4);
+        when(productSalesService.getTopRanks(3, 5)).thenReturn(List.of(new ProductRank(productId, 30L)));
+        when(productCacheRepository.findById(productId)).thenReturn(Optional.of(ProductSnapshot.from(testProduct)));
+        when(shardedStockService.getStockQty(argThat(product -> product.getProductId().equals(productId))))
+                .thenReturn(140);
+
+        // when
+        List<TopProductResponse> result = productService.getTopSellingProducts(3, 5);
+
+        // then
+        assertThat(result.get(0).getStockQty()).isEqualTo(140);
+    }
+
+    @Test
+    @DisplayName("랭킹 조회 기간이 7일을 넘으면 예외가 발생한다")
+    void getTopSellingProductsWithInvalidDays() {
+        assertThrows(IllegalArgumentException.class, () -> productService.getTopSellingProducts(8, 5));
+        verify(productSalesService, never()).getTopRanks(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("캐시된 인기 상품이 있으면 판매 집계를 다시 조회하지 않는다")
+    void getTopSellingProductsWithCacheHit() {
+        // given
+        List<TopProductSales> cached = List.of(new TopProductSales(productId, "테스트 상품", 10000, 100, 3L, 30L));
+        when(refreshAheadCache.<List<TopProductSales>>get(eq("topProducts:last3days"), any(Duration.class), any()))
+                .thenReturn(cached);
+
+        // when
+        List<TopProductResponse> result = productService.getTopSellingProductsWithCache();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTotalQuantity()).isEqualTo(30L);
+        verify(productSalesService, never()).getTopProducts(anyInt(), anyInt());
+    }
 }
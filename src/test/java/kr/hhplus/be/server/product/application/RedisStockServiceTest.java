@@ -0,0 +1,185 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockDeltaBatch;
+import kr.hhplus.be.server.product.domain.StockDeltaFlush;
+import kr.hhplus.be.server.product.domain.StockDeltaState;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockCacheRepository;
+import kr.hhplus.be.server.product.domain.repository.StockDeltaFlushRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisStockServiceTest {
+    @Mock
+    private StockCacheRepository stockCacheRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+    @Mock
+    private StockDeltaFlushRepository stockDeltaFlushRepository;
+
+    @InjectMocks
+    private RedisStockService redisStockService;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testProduct = new Product();
+        testProduct.setProductId(1L);
+        testProduct.setProductName("테스트 상품");
+        testProduct.setProductPrice(10000);
+        testProduct.setStockQty(100);
+    }
+
+    @Test
+    @DisplayName("Redis 재고를 일괄 차감한다")
+    void decreaseStocks() {
+        // given
+        when(stockCacheRepository.decreaseAll(anyMap())).thenReturn(StockDecreaseResult.success());
+
+        // when
+        redisStockService.decreaseStocks(Map.of(1L, 10, 2L, 5));
+
+        // then
+        verify(stockCacheRepository, times(1)).decreaseAll(Map.of(1L, 10, 2L, 5));
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("재고 카운터가 없으면 DB 재고로 초기화 후 재시도한다")
+    void decreaseStocksWithNotLoadedCounter() {
+        // given
+        when(stockCacheRepository.decreaseAll(anyMap()))
+                .thenReturn(new StockDecreaseResult(StockDecreaseResult.Status.NOT_LOADED, 1L))
+                .thenReturn(StockDecreaseResult.success());
+        StockDeltaState state = new StockDeltaState(3L, null);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(stockCacheRepository.getDeltaState()).thenReturn(state);
+        when(productRepository.findStockQtyWithSharedLock(1L)).thenReturn(Optional.of(100));
+        when(shardedStockService.getShardStockQty(testProduct)).thenReturn(0);
+        when(stockCacheRepository.initialize(1L, 100, state, false)).thenReturn(true);
+        when(stockCacheRepository.getStock(1L)).thenReturn(Optional.of(100));
+
+        // when
+        redisStockService.decreaseStocks(Map.of(1L, 10));
+
+        // then
+        verify(stockCacheRepository).initialize(1L, 100, state, false);
+        verify(stockCacheRepository, times(2)).decreaseAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("DB 반영 중인 변화량 묶음이 아직 커밋되지 않았으면 묶음의 변화량을 포함해 초기화한다")
+    void getStockWithFlushingBatch() {
+        // given
+        StockDeltaState state = new StockDeltaState(3L, "batch-1");
+        when(stockCacheRepository.getStock(1L)).thenReturn(Optional.empty()).thenReturn(Optional.of(90));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(stockCacheRepository.getDeltaState()).thenReturn(state);
+        when(productRepository.findStockQtyWithSharedLock(1L)).thenReturn(Optional.of(100));
+        when(stockDeltaFlushRepository.isApplied("batch-1")).thenReturn(false);
+        when(shardedStockService.getShardStockQty(testProduct)).thenReturn(0);
+        when(stockCacheRepository.initialize(1L, 100, state, true)).thenReturn(true);
+
+        // when
+        int stock = redisStockService.getStock(1L);
+
+        // then
+        assertThat(stock).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("조회 도중 변화량 반영 상태가 바뀌면 다시 조회해 초기화한다")
+    void getStockRetriesWhenDeltaStateChanged() {
+        // given
+        StockDeltaState before = new StockDeltaState(3L, null);
+        StockDeltaState after = new StockDeltaState(4L, "batch-2");
+        when(stockCacheRepository.getStock(1L)).thenReturn(Optional.empty()).thenReturn(Optional.of(100));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(stockCacheRepository.getDeltaState()).thenReturn(before).thenReturn(after);
+        when(productRepository.findStockQtyWithSharedLock(1L)).thenReturn(Optional.of(100));
+        when(stockDeltaFlushRepository.isApplied("batch-2")).thenReturn(true);
+        when(shardedStockService.getShardStockQty(testProduct)).thenReturn(0);
+        when(stockCacheRepository.initialize(1L, 100, before, false)).thenReturn(false);
+        when(stockCacheRepository.initialize(1L, 100, after, false)).thenReturn(true);
+
+        // when
+        int stock = redisStockService.getStock(1L);
+
+        // then
+        assertThat(stock).isEqualTo(100);
+        verify(stockCacheRepository, times(2)).initialize(eq(1L), eq(100), any(StockDeltaState.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예외가 발생한다")
+    void decreaseStocksWithInsufficientStock() {
+        // given
+        when(stockCacheRepository.decreaseAll(anyMap()))
+                .thenReturn(new StockDecreaseResult(StockDecreaseResult.Status.INSUFFICIENT, 1L));
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> redisStockService.decreaseStocks(Map.of(1L, 150)));
+    }
+
+    @Test
+    @DisplayName("Redis에 쌓인 재고 변화량을 DB에 반영하고 반영 기록을 남긴다")
+    void flushStockDeltas() {
+        // given
+        when(stockCacheRepository.claimDeltas(anyString()))
+                .thenReturn(Optional.of(new StockDeltaBatch("batch-1", Map.of(1L, -10, 2L, 3))));
+        when(stockDeltaFlushRepository.isApplied("batch-1")).thenReturn(false);
+        when(productRepository.applyStockDelta(1L, -10)).thenReturn(1);
+        when(productRepository.applyStockDelta(2L, 3)).thenReturn(1);
+
+        // when
+        int flushed = redisStockService.flushStockDeltas();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(stockDeltaFlushRepository).save(argThat((StockDeltaFlush flush) -> flush.getBatchId().equals("batch-1")));
+        // 트랜잭션 밖에서는 커밋 후 작업이 즉시 실행됨
+        verify(stockCacheRepository).completeDeltas("batch-1");
+    }
+
+    @Test
+    @DisplayName("이미 반영된 변화량 묶음은 다시 반영하지 않고 비우기만 한다")
+    void flushStockDeltasAlreadyApplied() {
+        // given
+        when(stockCacheRepository.claimDeltas(anyString()))
+                .thenReturn(Optional.of(new StockDeltaBatch("batch-1", Map.of(1L, -10))));
+        when(stockDeltaFlushRepository.isApplied("batch-1")).thenReturn(true);
+
+        // when
+        int flushed = redisStockService.flushStockDeltas();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(productRepository, never()).applyStockDelta(any(), anyInt());
+        verify(stockDeltaFlushRepository, never()).save(any());
+        verify(stockCacheRepository).completeDeltas("batch-1");
+    }
+}
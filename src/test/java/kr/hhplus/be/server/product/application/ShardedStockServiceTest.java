@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductStockShard;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardedStockServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockShardRepository productStockShardRepository;
+
+    @InjectMocks
+    private ShardedStockService shardedStockService;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testProduct = new Product();
+        testProduct.setProductId(1L);
+        testProduct.setProductName("인기 상품");
+        testProduct.setProductPrice(10000);
+        testProduct.setStockQty(10);
+    }
+
+    @Test
+    @DisplayName("재고 분할 시 현재 재고를 카운터에 고르게 나눈다")
+    @SuppressWarnings("unchecked")
+    void enableSharding() {
+        // given
+        when(productRepository.findByIdWithPessimisticLock(1L)).thenReturn(Optional.of(testProduct));
+
+        // when
+        shardedStockService.enableSharding(1L, 4);
+
+        // then
+        ArgumentCaptor<List<ProductStockShard>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productStockShardRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductStockShard::getStockQty).containsExactly(3, 3, 2, 2);
+        assertThat(testProduct.getStockQty()).isEqualTo(0);
+        assertThat(testProduct.getStockShardCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품의 재고는 카운터 합계이다")
+    void getStockQty() {
+        // given
+        testProduct.setStockQty(0);
+        testProduct.setStockShardCount(4);
+        when(productStockShardRepository.sumStockQty(1L)).thenReturn(10L);
+
+        // when & then
+        assertThat(shardedStockService.getStockQty(testProduct)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("선택한 카운터가 부족하면 다른 카운터에서 차감한다")
+    void decreaseStockFallsBackToOtherShard() {
+        // given
+        testProduct.setStockShardCount(2);
+        when(productStockShardRepository.decreaseStockIfEnough(eq(1L), anyInt(), eq(3)))
+                .thenReturn(0)
+                .thenReturn(1);
+
+        // when
+        shardedStockService.decreaseStock(testProduct, 3);
+
+        // then
+        verify(productStockShardRepository, times(2)).decreaseStockIfEnough(eq(1L), anyInt(), eq(3));
+        verify(productStockShardRepository, never()).findAllByProductIdWithLock(1L);
+    }
+
+    @Test
+    @DisplayName("전체 분할 재고가 부족하면 예외가 발생한다")
+    void decreaseStockWithInsufficientStock() {
+        // given
+        testProduct.setStockQty(0);
+        testProduct.setStockShardCount(2);
+        when(productStockShardRepository.decreaseStockIfEnough(eq(1L), anyInt(), eq(5))).thenReturn(0);
+        when(productStockShardRepository.findAllByProductIdWithLock(1L)).thenReturn(List.of(
+                ProductStockShard.create(1L, 0, 2),
+                ProductStockShard.create(1L, 1, 2)));
+        when(productRepository.decreaseStockIfEnough(1L, 1)).thenReturn(0);
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> shardedStockService.decreaseStock(testProduct, 5));
+        verify(productStockShardRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.product.domain.repository.StockCombineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockDecrementCombinerTest {
+    @Mock
+    private StockCombineRepository stockCombineRepository;
+
+    private StockDecrementCombiner stockDecrementCombiner;
+
+    // 잠근 상품 행의 재고 (배정 수량만큼 차감)
+    private final AtomicInteger stockQty = new AtomicInteger(5);
+
+    @BeforeEach
+    void setUp() {
+        stockDecrementCombiner = new StockDecrementCombiner(stockCombineRepository);
+        ReflectionTestUtils.setField(stockDecrementCombiner, "windowMs", 0L);
+        ReflectionTestUtils.setField(stockDecrementCombiner, "maxBatchSize", 100);
+    }
+
+    private void givenLockedStock() {
+        when(stockCombineRepository.decreaseAllocatedStock(eq(1L), any())).thenAnswer(invocation -> {
+            IntUnaryOperator allocator = invocation.getArgument(1);
+            stockQty.addAndGet(-allocator.applyAsInt(stockQty.get()));
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 조건부 UPDATE로 차감한다")
+    void decrease() {
+        // given
+        when(stockCombineRepository.decreaseStockIfEnough(1L, 3)).thenReturn(true);
+
+        // when
+        StockDecrementCombiner.Outcome outcome = stockDecrementCombiner.decrease(1L, 3);
+
+        // then
+        assertThat(outcome).isEqualTo(StockDecrementCombiner.Outcome.GRANTED);
+        verify(stockCombineRepository, never()).decreaseAllocatedStock(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예외가 발생한다")
+    void decreaseWithInsufficientStock() {
+        // given
+        when(stockCombineRepository.decreaseStockIfEnough(1L, 10)).thenReturn(false);
+        givenLockedStock();
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> stockDecrementCombiner.decrease(1L, 10));
+        assertThat(stockQty.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("합산 수량이 부족하면 먼저 도착한 요청부터 재고를 배정한다")
+    void decreaseConcurrentlyWithInsufficientStock() throws InterruptedException {
+        // given
+        int threadCount = 3;
+        when(stockCombineRepository.decreaseStockIfEnough(eq(1L), anyInt())).thenReturn(false);
+        givenLockedStock();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    stockDecrementCombiner.decrease(1L, 3);
+                    successCount.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failCount.get()).isEqualTo(2);
+        assertThat(stockQty.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품은 결합하지 않고 호출자가 직접 차감하도록 알린다")
+    void decreaseShardedProduct() {
+        // given
+        when(stockCombineRepository.decreaseStockIfEnough(1L, 3)).thenReturn(false);
+        when(stockCombineRepository.decreaseAllocatedStock(eq(1L), any())).thenReturn(false);
+
+        // when
+        StockDecrementCombiner.Outcome outcome = stockDecrementCombiner.decrease(1L, 3);
+
+        // then
+        assertThat(outcome).isEqualTo(StockDecrementCombiner.Outcome.SHARDED);
+    }
+}
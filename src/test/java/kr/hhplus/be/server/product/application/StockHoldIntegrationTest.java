@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.product.application;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.StockHold;
+import kr.hhplus.be.server.product.domain.StockHoldStatus;
+import kr.hhplus.be.server.product.infrastructure.repository.ProductJpaRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.StockHoldJpaRepository;
+import kr.hhplus.be.server.testdata.ProductTestDataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({TestcontainersConfiguration.class, ProductTestDataLoader.class})
+@ActiveProfiles("product-test")
+@Transactional
+public class StockHoldIntegrationTest {
+
+    private static final Long ORDER_ID = 900_001L;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private StockHoldJpaRepository stockHoldJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("점유를 확정하면 다시 조회한 점유 기록도 확정 상태이고 재고가 차감된다")
+    void commitPersistsHoldStatus() {
+        // given
+        Product product = productJpaRepository.findAll().stream()
+                .filter(candidate -> !candidate.isStockSharded() && candidate.getStockQty() >= 1)
+                .findFirst()
+                .orElseThrow();
+        Long productId = product.getProductId();
+        int stockQty = product.getStockQty();
+        stockHoldService.hold(ORDER_ID, Map.of(productId, 1));
+
+        // when
+        stockHoldService.commit(ORDER_ID);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<StockHold> holds = stockHoldJpaRepository.findByOrderIdWithLock(ORDER_ID);
+        assertThat(holds).hasSize(1);
+        assertThat(holds.get(0).getHoldStatus()).isEqualTo(StockHoldStatus.COMMITTED);
+        assertThat(productJpaRepository.findById(productId).orElseThrow().getStockQty()).isEqualTo(stockQty - 1);
+    }
+}
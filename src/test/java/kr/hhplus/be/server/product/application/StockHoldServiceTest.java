@@ -0,0 +1,189 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientStockException;
+import kr.hhplus.be.server.product.domain.StockDecreaseResult;
+import kr.hhplus.be.server.product.domain.StockHold;
+import kr.hhplus.be.server.product.domain.StockHoldStatus;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockHoldCacheRepository;
+import kr.hhplus.be.server.product.domain.repository.StockHoldRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockHoldServiceTest {
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+
+    @Mock
+    private StockHoldCacheRepository stockHoldCacheRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+    @InjectMocks
+    private StockHoldService stockHoldService;
+
+    @Test
+    @DisplayName("재고를 점유하고 점유 기록을 저장한다")
+    void hold() {
+        // given
+        when(stockHoldCacheRepository.holdAll(anyList())).thenReturn(StockDecreaseResult.success());
+
+        // when
+        stockHoldService.hold(1L, Map.of(1L, 10, 2L, 5));
+
+        // then
+        verify(stockHoldCacheRepository).holdAll(argThat(holds -> holds.size() == 2));
+        verify(stockHoldRepository).saveAll(anyList());
+        verify(productService, never()).decreaseStocksWithConditionalUpdate(anyMap());
+    }
+
+    @Test
+    @DisplayName("점유 가능 재고가 부족하면 예외가 발생한다")
+    void holdWithInsufficientStock() {
+        // given
+        when(stockHoldCacheRepository.holdAll(anyList()))
+                .thenReturn(new StockDecreaseResult(StockDecreaseResult.Status.INSUFFICIENT, 1L));
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> stockHoldService.hold(1L, Map.of(1L, 10)));
+        verify(stockHoldRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("점유를 확정하면 실제 재고를 차감한다")
+    void commit() {
+        // given
+        StockHold hold = StockHold.create(1L, 1L, 10, LocalDateTime.now().plusMinutes(10));
+        when(stockHoldRepository.findByOrderIdWithLock(1L)).thenReturn(List.of(hold));
+        doAnswer(invocation -> {
+            // 재고 UPDATE 시점에 이미 확정 상태여야 함께 flush 된다
+            assertThat(hold.getHoldStatus()).isEqualTo(StockHoldStatus.COMMITTED);
+            return null;
+        }).when(productService).decreaseStocksWithConditionalUpdate(anyMap());
+
+        // when
+        stockHoldService.commit(1L);
+
+        // then
+        assertThat(hold.getHoldStatus()).isEqualTo(StockHoldStatus.COMMITTED);
+        verify(productService).decreaseStocksWithConditionalUpdate(Map.of(1L, 10));
+        verify(stockHoldCacheRepository).commitAll(List.of(hold));
+    }
+
+    @Test
+    @DisplayName("만료로 해제된 점유는 확정할 수 없다")
+    void commitReleasedHold() {
+        // given
+        StockHold hold = StockHold.create(1L, 1L, 10, LocalDateTime.now().minusMinutes(1));
+        hold.release();
+        when(stockHoldRepository.findByOrderIdWithLock(1L)).thenReturn(List.of(hold));
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> stockHoldService.commit(1L));
+        verify(productService, never()).decreaseStocksWithConditionalUpdate(anyMap());
+    }
+
+    @Test
+    @DisplayName("이미 확정된 점유는 다시 차감하지 않는다")
+    void commitAlreadyCommittedHold() {
+        // given
+        StockHold hold = StockHold.create(1L, 1L, 10, LocalDateTime.now().minusMinutes(1));
+        hold.commit();
+        when(stockHoldRepository.findByOrderIdWithLock(1L)).thenReturn(List.of(hold));
+
+        // when
+        stockHoldService.commit(1L);
+
+        // then
+        assertThat(hold.getHoldStatus()).isEqualTo(StockHoldStatus.COMMITTED);
+        verify(productService, never()).decreaseStocksWithConditionalUpdate(anyMap());
+        verify(stockHoldCacheRepository, never()).commitAll(anyList());
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 점유는 일괄 해제 전이라도 확정할 수 없다")
+    void commitExpiredHold() {
+        // given
+        StockHold hold = StockHold.create(1L, 1L, 10, LocalDateTime.now().minusMinutes(1));
+        when(stockHoldRepository.findByOrderIdWithLock(1L)).thenReturn(List.of(hold));
+
+        // when & then
+        assertThrows(InsufficientStockException.class, () -> stockHoldService.commit(1L));
+        verify(productService, never()).decreaseStocksWithConditionalUpdate(anyMap());
+    }
+
+    @Test
+    @DisplayName("만료된 점유를 일괄 해제한다")
+    void releaseExpiredHolds() {
+        // given
+        StockHold first = StockHold.create(1L, 1L, 10, LocalDateTime.now().minusMinutes(1));
+        StockHold second = StockHold.create(2L, 1L, 5, LocalDateTime.now().minusMinutes(1));
+        when(stockHoldRepository.findExpiredHoldsWithLock(any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of(first, second));
+
+        // when
+        int released = stockHoldService.releaseExpiredHolds(100);
+
+        // then
+        assertThat(released).isEqualTo(2);
+        assertThat(first.getHoldStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        assertThat(second.getHoldStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        verify(stockHoldCacheRepository).releaseAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("DB에 점유 기록이 있는데 Redis에 없는 점유는 다시 기록한다")
+    void reconcileCache() {
+        // given
+        StockHold cached = StockHold.create(1L, 1L, 10, LocalDateTime.now().plusMinutes(5));
+        StockHold missing = StockHold.create(2L, 1L, 5, LocalDateTime.now().plusMinutes(5));
+        when(stockHoldRepository.findProductIdsWithUnexpiredHolds(any(LocalDateTime.class))).thenReturn(List.of(1L));
+        when(stockHoldCacheRepository.getHeldOrderIds(1L)).thenReturn(Set.of(1L));
+        when(stockHoldRepository.findUnexpiredHeldHolds(any(LocalDateTime.class))).thenReturn(List.of(cached, missing));
+        when(stockHoldCacheRepository.reconcile(eq(1L), anyList(), anyList(), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        int reconciled = stockHoldService.reconcileCache();
+
+        // then
+        assertThat(reconciled).isEqualTo(1);
+        verify(stockHoldCacheRepository).reconcile(eq(1L), eq(List.of(cached, missing)), eq(List.of(missing)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("점유 중인 상품이 없으면 보정하지 않는다")
+    void reconcileCacheWithoutHolds() {
+        // given
+        when(stockHoldRepository.findProductIdsWithUnexpiredHolds(any(LocalDateTime.class))).thenReturn(List.of());
+
+        // when
+        int reconciled = stockHoldService.reconcileCache();
+
+        // then
+        assertThat(reconciled).isZero();
+        verify(stockHoldCacheRepository, never()).reconcile(any(), anyList(), anyList(), any());
+    }
+}
@@ -1,15 +1,16 @@
 package kr.hhplus.be.server.testdata;
 
 import kr.hhplus.be.server.product.domain.Product;
-import kr.hhplus.be.server.product.domain.TopProductView;
+import kr.hhplus.be.server.product.domain.ProductSalesDaily;
 import kr.hhplus.be.server.product.infrastructure.repository.ProductJpaRepository;
-import kr.hhplus.be.server.product.infrastructure.repository.TopProductJpaRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.ProductSalesDailyJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +21,7 @@ import java.util.List;
 public class ProductTestDataLoader implements ApplicationRunner {
 
     private final ProductJpaRepository productJpaRepository;
-    private final TopProductJpaRepository topProductJpaRepository;
+    private final ProductSalesDailyJpaRepository productSalesDailyJpaRepository;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -64,26 +65,22 @@ public class ProductTestDataLoader implements ApplicationRunner {
         productJpaRepository.saveAll(products);
         System.out.println("Product 테스트 데이터 " + products.size() + "건 생성 완료");
 
-        // TopProductView 데이터 생성 (상위 5개 상품)
-        if (topProductJpaRepository.count() == 0) {
-            List<TopProductView> topProducts = new ArrayList<>();
+        // 일간 판매 집계 데이터 생성 (상위 5개 상품)
+        if (productSalesDailyJpaRepository.count() == 0) {
+            List<ProductSalesDaily> sales = new ArrayList<>();
 
             for (int i = 0; i < 5; i++) {
                 Product product = products.get(i);
-
-                TopProductView topProduct = new TopProductView();
-                topProduct.setProductId(product.getProductId());
-                topProduct.setProductName(product.getProductName());
-                topProduct.setProductPrice(product.getProductPrice());
-                topProduct.setStockQty(product.getStockQty());
-                topProduct.setOrderCount((long)(50 - i * 10)); // 50, 40, 30, 20, 10 (내림차순)
-                topProduct.setTotalQuantity((long)(100 - i * 15)); // 100, 85, 70, 55, 40 (내림차순)
-
-                topProducts.add(topProduct);
+                sales.add(ProductSalesDaily.create(
+                        product.getProductId(),
+                        LocalDate.now(),
+                        50 - i * 10,   // 50, 40, 30, 20, 10 (내림차순)
+                        100 - i * 15   // 100, 85, 70, 55, 40 (내림차순)
+                ));
             }
 
-            topProductJpaRepository.saveAll(topProducts);
-            System.out.println("TopProductView 테스트 데이터 " + topProducts.size() + "건 생성 완료");
+            productSalesDailyJpaRepository.saveAll(sales);
+            System.out.println("ProductSalesDaily 테스트 데이터 " + sales.size() + "건 생성 완료");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.PointHistoryOutbox;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryOutboxRepository;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointHistoryFlusherTest {
+    @Mock
+    private PointHistoryOutboxRepository pointHistoryOutboxRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PointHistoryFlusher pointHistoryFlusher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointHistoryFlusher, "asyncWrite", true);
+        ReflectionTestUtils.setField(pointHistoryFlusher, "batchSize", 100);
+    }
+
+    private PointHistoryOutbox outbox(Long outboxId) {
+        PointHistoryOutbox outbox = PointHistoryOutbox.from(PointHistory.createChargeHistory(1L, 100));
+        outbox.setOutboxId(outboxId);
+        return outbox;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("대기 행을 이력으로 일괄 저장한 뒤 삭제한다")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldSaveHistoriesAndDeleteOutboxes() {
+        // given
+        runInTransaction();
+        List<PointHistoryOutbox> outboxes = List.of(outbox(1L), outbox(2L));
+        when(pointHistoryOutboxRepository.findOldestWithLock(100)).thenReturn(outboxes);
+
+        // when
+        pointHistoryFlusher.flush();
+
+        // then
+        ArgumentCaptor<List<PointHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryRepository).saveAllInBatch(captor.capture());
+        assertThat(captor.getValue()).extracting(PointHistory::getEventId).containsExactly("outbox-1", "outbox-2");
+        verify(pointHistoryOutboxRepository).deleteAll(outboxes);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 대기 행을 삭제하지 않아 다음 주기에 다시 저장한다")
+    void flush_ShouldNotDelete_WhenSaveFails() {
+        // given
+        runInTransaction();
+        when(pointHistoryOutboxRepository.findOldestWithLock(100)).thenReturn(List.of(outbox(1L)));
+        doThrow(new RuntimeException("DB 오류")).when(pointHistoryRepository).saveAllInBatch(anyList());
+
+        // when
+        pointHistoryFlusher.flush();
+
+        // then
+        verify(pointHistoryOutboxRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("비동기 저장을 끄면 대기 행을 읽지 않는다")
+    void flush_ShouldSkip_WhenAsyncWriteDisabled() {
+        // given
+        ReflectionTestUtils.setField(pointHistoryFlusher, "asyncWrite", false);
+
+        // when
+        pointHistoryFlusher.flush();
+
+        // then
+        verify(pointHistoryOutboxRepository, never()).findOldestWithLock(anyInt());
+        verify(pointHistoryRepository, never()).saveAllInBatch(any());
+    }
+}
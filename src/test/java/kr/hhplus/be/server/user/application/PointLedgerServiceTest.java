@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.common.exception.InsufficientBalanceException;
+import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.PointLedgerStatus;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerCacheRepository;
+import kr.hhplus.be.server.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerServiceTest {
+    @Mock
+    private PointLedgerCacheRepository pointLedgerCacheRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PointLedgerService pointLedgerService;
+
+    private final Long userId = 1L;
+
+    @Test
+    @DisplayName("충전 시 사용자 행을 조회하지 않고 미반영 이력만 추가한다")
+    void chargePoint_ShouldAppendPendingHistory() {
+        // given
+        when(pointLedgerCacheRepository.apply(userId, 500, User.MAX_POINT_BALANCE)).thenReturn(PointLedgerStatus.APPLIED);
+
+        // when
+        pointLedgerService.chargePoint(userId, 500);
+
+        // then
+        ArgumentCaptor<PointHistory> historyCaptor = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(historyCaptor.capture());
+        assertEquals(500, historyCaptor.getValue().getAmount());
+        assertFalse(historyCaptor.getValue().getApplied());
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).findByIdWithPessimisticLock(any());
+    }
+
+    @Test
+    @DisplayName("Redis 잔액이 없으면 DB 잔액과 미반영 이력 합계로 초기화 후 사용한다")
+    void usePoint_ShouldLoadBalance_WhenNotLoaded() {
+        // given
+        when(pointLedgerCacheRepository.apply(userId, -300, User.MAX_POINT_BALANCE))
+                .thenReturn(PointLedgerStatus.NOT_LOADED)
+                .thenReturn(PointLedgerStatus.APPLIED);
+        when(userRepository.findLedgerBalance(userId)).thenReturn(Optional.of(1200));
+
+        // when
+        pointLedgerService.usePoint(userId, 300);
+
+        // then
+        verify(pointLedgerCacheRepository).initialize(userId, 1200);
+        verify(pointHistoryRepository).save(any(PointHistory.class));
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 이력을 추가하지 않고 예외가 발생한다")
+    void usePoint_ShouldThrowException_WhenInsufficient() {
+        // given
+        when(pointLedgerCacheRepository.apply(userId, -5000, User.MAX_POINT_BALANCE)).thenReturn(PointLedgerStatus.INSUFFICIENT);
+
+        // when & then
+        assertThrows(InsufficientBalanceException.class, () -> pointLedgerService.usePoint(userId, 5000));
+        verify(pointHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("미반영 이력을 사용자별로 합산해 사용자 ID 순서로 잔액에 반영한다")
+    void compact_ShouldApplyDeltasPerUser() {
+        // given
+        PointHistory other = PointHistory.createPendingChargeHistory(2L, 100);
+        other.setPointHistoryId(10L);
+        PointHistory charge = PointHistory.createPendingChargeHistory(1L, 500);
+        charge.setPointHistoryId(11L);
+        PointHistory use = PointHistory.createPendingUseHistory(1L, 200);
+        use.setPointHistoryId(12L);
+        when(pointHistoryRepository.findUnappliedWithLock(100)).thenReturn(List.of(other, charge, use));
+        when(userRepository.applyPointDelta(anyLong(), anyInt())).thenReturn(true);
+
+        // when
+        int compacted = pointLedgerService.compact(100);
+
+        // then
+        assertEquals(3, compacted);
+        InOrder inOrder = inOrder(userRepository);
+        inOrder.verify(userRepository).applyPointDelta(1L, 300);
+        inOrder.verify(userRepository).applyPointDelta(2L, 100);
+        verify(pointHistoryRepository).markApplied(List.of(10L, 11L, 12L));
+    }
+
+    @Test
+    @DisplayName("반영하면 잔액이 음수가 되는 사용자의 이력은 미반영으로 남긴다")
+    void compact_ShouldKeepRejectedHistoriesUnapplied() {
+        // given
+        PointHistory other = PointHistory.createPendingChargeHistory(2L, 100);
+        other.setPointHistoryId(10L);
+        PointHistory use = PointHistory.createPendingUseHistory(1L, 200);
+        use.setPointHistoryId(11L);
+        when(pointHistoryRepository.findUnappliedWithLock(100)).thenReturn(List.of(other, use));
+        when(userRepository.applyPointDelta(1L, -200)).thenReturn(false);
+        when(userRepository.applyPointDelta(2L, 100)).thenReturn(true);
+
+        // when
+        int compacted = pointLedgerService.compact(100);
+
+        // then
+        assertEquals(1, compacted);
+        verify(pointHistoryRepository).markApplied(List.of(10L));
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryPageResponse;
+import kr.hhplus.be.server.user.domain.dto.response.PointHistoryResponse;
+import kr.hhplus.be.server.user.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServicePointHistoryTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @InjectMocks
+    private UserService userService;
+
+    private final Long userId = 1L;
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("한 개 더 조회된 경우 마지막 이력의 생성 시각과 ID를 다음 커서로 반환한다")
+    void getPointHistories_ShouldReturnNextCursor_WhenHasNext() {
+        // given
+        List<PointHistoryResponse> histories = List.of(
+                new PointHistoryResponse(3L, 500, "CHARGE", now),
+                new PointHistoryResponse(2L, -200, "USE", now.minusMinutes(1)),
+                new PointHistoryResponse(1L, 1000, "CHARGE", now.minusMinutes(2)));
+        when(pointHistoryRepository.findHistoryPage(userId, null, null, 3)).thenReturn(histories);
+
+        // when
+        PointHistoryPageResponse page = userService.getPointHistories(userId, null, null, 2);
+
+        // then
+        assertEquals(2, page.getHistories().size());
+        assertTrue(page.isHasNext());
+        assertEquals(now.minusMinutes(1), page.getNextCursorCreatedAt());
+        assertEquals(2L, page.getNextCursorId());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서 없이 반환하고 페이지 크기는 최대값으로 제한한다")
+    void getPointHistories_ShouldLimitSize_WhenLastPage() {
+        // given
+        LocalDateTime cursorCreatedAt = now.minusMinutes(1);
+        when(pointHistoryRepository.findHistoryPage(userId, cursorCreatedAt, 2L, 101))
+                .thenReturn(List.of(new PointHistoryResponse(1L, 1000, "CHARGE", now.minusMinutes(2))));
+
+        // when
+        PointHistoryPageResponse page = userService.getPointHistories(userId, cursorCreatedAt, 2L, 1000);
+
+        // then
+        assertEquals(1, page.getHistories().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursorCreatedAt());
+        assertNull(page.getNextCursorId());
+    }
+}
@@ -172,4 +172,32 @@ public class UserServiceTest {
         assertTrue(exception.getMessage().contains("사용 금액은 0보다 커야 합니다"));
         verify(pointHistoryRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("조건부 차감이 반영되지 않으면 잔액 부족 예외 발생")
+    void usePointAtomically_InsufficientBalance() {
+        // given
+        when(userRepository.debitPoint(userId, 2000)).thenReturn(false);
+
+        // when & then
+        assertThrows(InsufficientBalanceException.class, () -> userService.usePointAtomically(userId, 2000));
+        verify(userRepository, never()).findByIdWithPessimisticLock(any());
+        verify(pointHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건부 충전이 반영되지 않으면 최대 한도 예외 발생")
+    void chargePointAtomically_ExceedsLimit() {
+        // given
+        when(userRepository.creditPoint(userId, 999_500, User.MAX_POINT_BALANCE)).thenReturn(false);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> userService.chargePointAtomically(userId, 999_500)
+        );
+
+        assertTrue(exception.getMessage().contains("최대 포인트 한도"));
+        verify(pointHistoryRepository, never()).save(any());
+    }
 }
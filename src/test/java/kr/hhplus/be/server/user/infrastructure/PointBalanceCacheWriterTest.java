@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.user.domain.PointBalance;
+import kr.hhplus.be.server.user.domain.repository.PointBalanceCacheRepository;
+import kr.hhplus.be.server.user.infrastructure.repository.UserJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceCacheWriterTest {
+    @Mock
+    private PointBalanceCacheRepository pointBalanceCacheRepository;
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    private final Long userId = 1L;
+
+    private PointBalanceCacheWriter writer(boolean enabled) {
+        PointBalanceCacheWriter writer = new PointBalanceCacheWriter(pointBalanceCacheRepository, userJpaRepository);
+        ReflectionTestUtils.setField(writer, "enabled", enabled);
+        return writer;
+    }
+
+    @Test
+    @DisplayName("엔티티 변경 시 변경된 잔액과 버전을 캐시에 쓴다")
+    void writeAfterCommit_ShouldPutBalanceWithVersion() {
+        // given
+        PointBalance balance = new PointBalance(1500, 3L);
+
+        // when (트랜잭션 밖에서는 즉시 실행)
+        writer(true).writeAfterCommit(userId, balance);
+
+        // then
+        verify(pointBalanceCacheRepository).put(userId, balance);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 후에는 DB 잔액을 다시 읽어 캐시에 쓴다")
+    void refreshAfterCommit_ShouldReadBalanceFromDatabase() {
+        // given
+        PointBalance balance = new PointBalance(700, 5L);
+        when(userJpaRepository.findPointBalance(userId)).thenReturn(Optional.of(balance));
+
+        // when
+        writer(true).refreshAfterCommit(userId);
+
+        // then
+        verify(pointBalanceCacheRepository).put(userId, balance);
+    }
+
+    @Test
+    @DisplayName("캐시 반영에 실패해도 예외를 전파하지 않는다")
+    void writeAfterCommit_ShouldIgnoreCacheFailure() {
+        // given
+        when(pointBalanceCacheRepository.put(any(), any())).thenThrow(new RuntimeException("redis down"));
+
+        // when & then
+        assertDoesNotThrow(() -> writer(true).writeAfterCommit(userId, new PointBalance(100, 1L)));
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 캐시에 쓰지 않는다")
+    void writeAfterCommit_ShouldSkip_WhenDisabled() {
+        // when
+        writer(false).writeAfterCommit(userId, new PointBalance(100, 1L));
+        writer(false).refreshAfterCommit(userId);
+
+        // then
+        verifyNoInteractions(pointBalanceCacheRepository, userJpaRepository);
+    }
+}